@@ -0,0 +1,78 @@
+package com.psh10066.example;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 벤치마크용 애플리케이션
+ * <p>
+ * BatchScheduler 등의 컴포넌트는 등록하지 않고, Entity와 Repository만 임베디드 H2 위에 띄운다.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+public class BenchmarkApplication {
+
+    private static final int INSERT_BATCH_SIZE = 10_000;
+
+    /**
+     * @param properties 기본 설정을 덮어쓸 "key=value" 형식의 설정
+     */
+    public static ConfigurableApplicationContext run(String... properties) {
+        Map<String, String> args = new LinkedHashMap<>();
+        args.put("spring.main.web-application-type", "none");
+        args.put("spring.main.banner-mode", "off");
+        args.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        args.put("spring.datasource.url", "jdbc:h2:mem:" + UUID.randomUUID());
+        args.put("spring.datasource.username", "sa");
+        args.put("spring.datasource.password", "");
+        args.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        args.put("spring.jpa.show-sql", "false");
+        args.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        args.put("spring.jpa.properties.hibernate.format_sql", "false");
+        args.put("spring.jpa.properties.hibernate.highlight_sql", "false");
+        args.put("logging.level.root", "warn");
+        for (String property : properties) {
+            String[] keyValue = property.split("=", 2);
+            args.put(keyValue[0], keyValue[1]);
+        }
+
+        return SpringApplication.run(
+                BenchmarkApplication.class,
+                args.entrySet().stream()
+                        .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                        .toArray(String[]::new)
+        );
+    }
+
+    /**
+     * H2의 Oracle 호환 모드 URL
+     */
+    public static String oracleModeUrl() {
+        return "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=Oracle";
+    }
+
+    public static void insertMembers(DataSource dataSource, int count) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        List<Object[]> batchArgs = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (long id = 1; id <= count; id++) {
+            batchArgs.add(new Object[]{id, "홍길동" + id});
+            if (batchArgs.size() == INSERT_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate("INSERT INTO member (id, name) VALUES (?, ?)", batchArgs);
+                batchArgs.clear();
+            }
+        }
+        if (!batchArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO member (id, name) VALUES (?, ?)", batchArgs);
+        }
+    }
+}
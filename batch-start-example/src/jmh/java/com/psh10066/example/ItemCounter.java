@@ -0,0 +1,22 @@
+package com.psh10066.example;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 벤치마크 메소드 한 번에 처리한 item 수를 누적해 초당 처리 건수(items)로 보고한다.
+ */
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+@State(Scope.Thread)
+public class ItemCounter {
+
+    public long items;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        items = 0;
+    }
+}
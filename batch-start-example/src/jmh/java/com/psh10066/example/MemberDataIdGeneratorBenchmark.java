@@ -0,0 +1,67 @@
+package com.psh10066.example;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.batch.item.Chunk;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * id 생성 전략(UUID v4, v7)에 따른 MemberData 저장 처리량과 테이블(PK 인덱스 포함) 크기 비교
+ * <p>
+ * 여러 step이 동시에 저장하는 상황을 가정해 4개 스레드로 실행하고, 테이블 크기는 trial 종료 시 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class MemberDataIdGeneratorBenchmark {
+
+    @Param({"random", "time-ordered"})
+    public String generator;
+
+    @Param({"1000"})
+    public int chunkSize;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private MemberDataJdbcItemWriter itemWriter;
+    private MemberDataIdGenerator idGenerator;
+    private final AtomicLong memberId = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.run();
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        itemWriter = new MemberDataJdbcItemWriter(context.getBean(DataSource.class), chunkSize);
+        idGenerator = MemberDataIdGenerator.of(generator);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM member_data", Long.class);
+        Long bytes = jdbcTemplate.queryForObject("CALL DISK_SPACE_USED('MEMBER_DATA')", Long.class);
+        System.out.printf("%n[%s] member_data rows : %d, disk space used : %d bytes (%.1f bytes/row)%n",
+                generator, rows, bytes, (double) bytes / rows);
+        context.close();
+    }
+
+    @Benchmark
+    public void write(ItemCounter itemCounter) {
+        List<MemberData> items = new ArrayList<>(chunkSize);
+        for (int i = 0; i < chunkSize; i++) {
+            items.add(new MemberData(idGenerator.generate(), memberId.incrementAndGet(), "Hello 홍길동 : 2024-09-03T12:34:56"));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> itemWriter.write(new Chunk<>(items)));
+        itemCounter.items += chunkSize;
+    }
+}
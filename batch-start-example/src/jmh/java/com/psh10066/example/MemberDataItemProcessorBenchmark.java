@@ -0,0 +1,59 @@
+package com.psh10066.example;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.batch.item.ItemProcessor;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 람다 processor와 MemberDataItemProcessor의 item 당 처리 시간(ns/op), 할당량(gc.alloc.rate.norm) 비교
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MemberDataItemProcessorBenchmark {
+
+    private static final int MEMBER_COUNT = 1024;
+
+    @Param({"lambda", "class"})
+    public String processor;
+
+    @Param({"random", "time-ordered"})
+    public String idGenerator;
+
+    private ItemProcessor<Member, MemberData> itemProcessor;
+    private Member[] members;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime dateTime = LocalDateTime.of(2024, 9, 3, 12, 34, 56);
+        MemberDataIdGenerator memberDataIdGenerator = MemberDataIdGenerator.of(idGenerator);
+        itemProcessor = processor.equals("class")
+                ? new MemberDataItemProcessor(dateTime, memberDataIdGenerator)
+                : lambdaProcessor(dateTime, memberDataIdGenerator);
+
+        members = new Member[MEMBER_COUNT];
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            members[i] = new Member((long) i, "홍길동" + i);
+        }
+    }
+
+    /**
+     * MemberDataItemProcessor 도입 전의 람다 processor
+     */
+    private static ItemProcessor<Member, MemberData> lambdaProcessor(LocalDateTime dateTime, MemberDataIdGenerator memberDataIdGenerator) {
+        return item -> new MemberData(
+                memberDataIdGenerator.generate(),
+                item.getId(),
+                "Hello " + item.getName() + " : " + dateTime
+        );
+    }
+
+    @Benchmark
+    public MemberData process() throws Exception {
+        Member member = members[index++ & (MEMBER_COUNT - 1)];
+        return itemProcessor.process(member);
+    }
+}
@@ -0,0 +1,77 @@
+package com.psh10066.example;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.builder.JpaItemWriterBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JpaItemWriter(persist)와 MemberDataJdbcItemWriter의 초당 저장 건수(items) 비교
+ * <p>
+ * oracle은 H2의 Oracle 호환 모드로 대신한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MemberDataItemWriterBenchmark {
+
+    @Param({"jpa", "jdbc"})
+    public String writer;
+
+    @Param({"h2", "oracle"})
+    public String database;
+
+    @Param({"1000"})
+    public int chunkSize;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private ItemWriter<MemberData> itemWriter;
+    private long memberId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = database.equals("oracle")
+                ? BenchmarkApplication.run("spring.datasource.url=" + BenchmarkApplication.oracleModeUrl())
+                : BenchmarkApplication.run();
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        itemWriter = writer.equals("jdbc")
+                ? new MemberDataJdbcItemWriter(context.getBean(DataSource.class), chunkSize)
+                : new JpaItemWriterBuilder<MemberData>()
+                        .entityManagerFactory(context.getBean(EntityManagerFactory.class))
+                        .usePersist(true)
+                        .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void write(ItemCounter itemCounter) {
+        List<MemberData> items = new ArrayList<>(chunkSize);
+        for (int i = 0; i < chunkSize; i++) {
+            items.add(new MemberData(UUID.randomUUID(), ++memberId, "Hello 홍길동 : 2024-09-03T12:34:56"));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            try {
+                itemWriter.write(new Chunk<>(items));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        itemCounter.items += chunkSize;
+    }
+}
@@ -0,0 +1,81 @@
+package com.psh10066.example;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 페이지 위치(처음/중간/끝)에 따른 한 페이지 조회 시간 비교
+ * <p>
+ * offset 페이징은 뒤쪽 페이지로 갈수록 느려지고, keyset 페이징은 위치와 관계없이 일정해야 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MemberItemReaderBenchmark {
+
+    @Param({"100000"})
+    public int memberCount;
+
+    @Param({"1000"})
+    public int pageSize;
+
+    @Param({"0.0", "0.5", "0.99"})
+    public double position;
+
+    @Param({"paging", "keyset"})
+    public String reader;
+
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory entityManagerFactory;
+    private int startIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.run();
+        BenchmarkApplication.insertMembers(context.getBean(DataSource.class), memberCount);
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        startIndex = (int) (memberCount * position) / pageSize * pageSize;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void readPage(Blackhole blackhole) throws Exception {
+        ItemStreamReader<Member> itemReader;
+        ExecutionContext executionContext = new ExecutionContext();
+        if (reader.equals("keyset")) {
+            itemReader = new MemberKeysetItemReader(entityManagerFactory, "memberItemReader", pageSize);
+            if (startIndex > 0) {
+                executionContext.putLong("memberItemReader.lastId", startIndex);
+            }
+        } else {
+            itemReader = new JpaPagingItemReaderBuilder<Member>()
+                    .entityManagerFactory(entityManagerFactory)
+                    .name("memberItemReader")
+                    .pageSize(pageSize)
+                    .queryString("SELECT o FROM Member o ORDER BY o.id")
+                    .build();
+            executionContext.putInt("memberItemReader.read.count", startIndex);
+        }
+
+        itemReader.open(executionContext);
+        try {
+            for (int i = 0; i < pageSize; i++) {
+                blackhole.consume(itemReader.read());
+            }
+        } finally {
+            itemReader.close();
+        }
+    }
+}
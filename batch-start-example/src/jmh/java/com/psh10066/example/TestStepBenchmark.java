@@ -0,0 +1,123 @@
+package com.psh10066.example;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.builder.JpaItemWriterBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * testStep과 동일한 reader → processor → writer 조합으로 chunk 하나를 읽고 쓰고 커밋하는 시간 측정
+ * <p>
+ * chunkCommitTime은 chunk 당 소요 시간 분포(p99 포함)를, throughput은 초당 처리 건수(items)를 보고한다.
+ * 할당량은 gc 프로파일러의 gc.alloc.rate(.norm)로 확인한다.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TestStepBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    public int memberCount;
+
+    @Param({"100", "1000", "5000"})
+    public int chunkSize;
+
+    @Param({"jpa", "jdbc"})
+    public String writer;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private MemberKeysetItemReader itemReader;
+    private MemberDataItemProcessor itemProcessor;
+    private ItemWriter<MemberData> itemWriter;
+    private ExecutionContext executionContext;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.run();
+        DataSource dataSource = context.getBean(DataSource.class);
+        EntityManagerFactory entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        BenchmarkApplication.insertMembers(dataSource, memberCount);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        itemReader = new MemberKeysetItemReader(entityManagerFactory, "memberItemReader", chunkSize);
+        itemProcessor = new MemberDataItemProcessor(LocalDateTime.of(2024, 9, 3, 12, 34, 56), new TimeOrderedMemberDataIdGenerator());
+        itemWriter = writer.equals("jdbc")
+                ? new MemberDataJdbcItemWriter(dataSource, chunkSize)
+                : new JpaItemWriterBuilder<MemberData>()
+                        .entityManagerFactory(entityManagerFactory)
+                        .usePersist(true)
+                        .build();
+
+        executionContext = new ExecutionContext();
+        itemReader.open(executionContext);
+    }
+
+    @Setup(Level.Iteration)
+    public void truncateMemberData() {
+        jdbcTemplate.execute("TRUNCATE TABLE member_data");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        itemReader.close();
+        context.close();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public int chunkCommitTime() {
+        return runChunk();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void throughput(ItemCounter itemCounter) {
+        itemCounter.items += runChunk();
+    }
+
+    private int runChunk() {
+        return transactionTemplate.execute(status -> {
+            List<MemberData> items = new ArrayList<>(chunkSize);
+            for (int i = 0; i < chunkSize; i++) {
+                items.add(itemProcessor.process(readOrRewind()));
+            }
+
+            try {
+                itemWriter.write(new Chunk<>(items));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            itemReader.update(executionContext);
+            return items.size();
+        });
+    }
+
+    /**
+     * 마지막 member까지 읽으면 처음부터 다시 읽는다.
+     */
+    private Member readOrRewind() {
+        Member member = itemReader.read();
+        if (member == null) {
+            itemReader.close();
+            executionContext = new ExecutionContext();
+            itemReader.open(executionContext);
+            member = itemReader.read();
+        }
+        return member;
+    }
+}
@@ -0,0 +1,116 @@
+package com.psh10066.example;
+
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatContext;
+import org.springframework.batch.repeat.context.RepeatContextSupport;
+import org.springframework.batch.repeat.policy.CompletionPolicySupport;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * chunk 하나를 처리(읽기 ~ 커밋)하는 데 걸린 시간이 목표 시간에 가까워지도록 commit interval을 늘리거나 줄이는 CompletionPolicy
+ * <p>
+ * 다음 chunk 크기는 "현재 크기 * 목표 시간 / 걸린 시간"으로 정하되, 한 번에 절반 ~ 2배까지만 바꾸고 최소 ~ 최대 크기를 넘지 않는다.
+ * 선택된 크기는 step(파티션)마다 StepExecution의 ExecutionContext에 기록되므로 재시작 시에도 이어서 사용한다.
+ * step의 listener로도 등록해야 한다.
+ */
+public class AdaptiveChunkCompletionPolicy extends CompletionPolicySupport implements ChunkListener {
+
+    public static final String CHUNK_SIZE_KEY = "adaptive.chunkSize";
+    public static final String MIN_CHUNK_SIZE_KEY = "adaptive.minChunkSize";
+    public static final String MAX_CHUNK_SIZE_KEY = "adaptive.maxChunkSize";
+
+    private final int initialChunkSize;
+    private final long targetNanos;
+    private final int minChunkSize;
+    private final int maxChunkSize;
+    private final LongSupplier nanoClock;
+    private final ThreadLocal<Long> chunkStartTime = new ThreadLocal<>();
+
+    public AdaptiveChunkCompletionPolicy(int initialChunkSize, Duration targetCommitTime, int minChunkSize, int maxChunkSize) {
+        this(initialChunkSize, targetCommitTime, minChunkSize, maxChunkSize, System::nanoTime);
+    }
+
+    AdaptiveChunkCompletionPolicy(int initialChunkSize, Duration targetCommitTime, int minChunkSize, int maxChunkSize, LongSupplier nanoClock) {
+        this.initialChunkSize = Math.clamp(initialChunkSize, minChunkSize, maxChunkSize);
+        this.targetNanos = targetCommitTime.toNanos();
+        this.minChunkSize = minChunkSize;
+        this.maxChunkSize = maxChunkSize;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public RepeatContext start(RepeatContext parent) {
+        StepContext stepContext = StepSynchronizationManager.getContext();
+        int chunkSize = stepContext == null ? initialChunkSize : getChunkSize(stepContext.getStepExecution());
+        return new ChunkSizeContext(parent, chunkSize);
+    }
+
+    @Override
+    public boolean isComplete(RepeatContext context) {
+        return ((ChunkSizeContext) context).isComplete();
+    }
+
+    @Override
+    public void update(RepeatContext context) {
+        ((ChunkSizeContext) context).increment();
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        chunkStartTime.set(nanoClock.getAsLong());
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        Long startTime = chunkStartTime.get();
+        chunkStartTime.remove();
+        if (startTime == null) {
+            return;
+        }
+
+        StepExecution stepExecution = context.getStepContext().getStepExecution();
+        int chunkSize = getChunkSize(stepExecution);
+        int nextChunkSize = nextChunkSize(chunkSize, Math.max(nanoClock.getAsLong() - startTime, 1));
+
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        executionContext.putInt(CHUNK_SIZE_KEY, nextChunkSize);
+        executionContext.putInt(MIN_CHUNK_SIZE_KEY, Math.min(executionContext.getInt(MIN_CHUNK_SIZE_KEY, chunkSize), nextChunkSize));
+        executionContext.putInt(MAX_CHUNK_SIZE_KEY, Math.max(executionContext.getInt(MAX_CHUNK_SIZE_KEY, chunkSize), nextChunkSize));
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        chunkStartTime.remove();
+    }
+
+    private int getChunkSize(StepExecution stepExecution) {
+        return stepExecution.getExecutionContext().getInt(CHUNK_SIZE_KEY, initialChunkSize);
+    }
+
+    private int nextChunkSize(int chunkSize, long elapsedNanos) {
+        long proposed = Math.round((double) chunkSize * targetNanos / elapsedNanos);
+        long bounded = Math.clamp(proposed, chunkSize / 2, chunkSize * 2L);
+        return (int) Math.clamp(bounded, minChunkSize, maxChunkSize);
+    }
+
+    private static class ChunkSizeContext extends RepeatContextSupport {
+
+        private final int chunkSize;
+
+        ChunkSizeContext(RepeatContext parent, int chunkSize) {
+            super(parent);
+            this.chunkSize = chunkSize;
+        }
+
+        boolean isComplete() {
+            return getStartedCount() >= chunkSize;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.psh10066.example;
+
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Collectors;
+
+/**
+ * job이 끝나면 Prometheus 형식으로 batch_member_* 지표를 출력한다.
+ */
+@Component
+public class BatchMetricsJobListener implements JobExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchMetricsJobListener.class);
+
+    private final ObjectProvider<PrometheusMeterRegistry> prometheusMeterRegistry;
+
+    public BatchMetricsJobListener(ObjectProvider<PrometheusMeterRegistry> prometheusMeterRegistry) {
+        this.prometheusMeterRegistry = prometheusMeterRegistry;
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        prometheusMeterRegistry.ifAvailable(registry -> log.info("batch_member_* 지표\n{}", registry.scrape().lines()
+                .filter(line -> line.contains("batch_member_"))
+                .collect(Collectors.joining("\n"))));
+    }
+}
@@ -0,0 +1,147 @@
+package com.psh10066.example;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.batch.core.*;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * testStep의 read / process / write / chunk 처리 시간과 처리 건수를 Micrometer로 기록한다.
+ * <p>
+ * 모든 지표에 job, step, partition 태그가 붙는다. (파티션 모드가 아니면 partition=none)
+ * StepExecution마다 인스턴스가 생성되는 @StepScope로 사용하므로 각 인스턴스는 하나의 스레드에서만 호출된다.
+ */
+public class BatchMetricsListener implements StepExecutionListener, ChunkListener,
+        ItemReadListener<Member>, ItemProcessListener<Member, MemberData>, ItemWriteListener<MemberData> {
+
+    private final Timer readTimer;
+    private final Timer processTimer;
+    private final Timer writeTimer;
+    private final Timer chunkTimer;
+    private final Counter itemCounter;
+    private final Counter readErrorCounter;
+    private final Counter processErrorCounter;
+    private final Counter writeErrorCounter;
+    private final Counter chunkErrorCounter;
+    private final Counter skipCounter;
+    private final Counter rollbackCounter;
+
+    private long readStartTime;
+    private long processStartTime;
+    private long writeStartTime;
+    private long chunkStartTime;
+
+    public BatchMetricsListener(MeterRegistry meterRegistry, StepExecution stepExecution) {
+        Tags tags = createTags(stepExecution);
+        this.readTimer = createTimer(meterRegistry, "batch.member.read", "item 한 건을 읽는 시간 (페이지 조회 포함)", tags);
+        this.processTimer = createTimer(meterRegistry, "batch.member.process", "item 한 건을 변환하는 시간", tags);
+        this.writeTimer = createTimer(meterRegistry, "batch.member.write", "chunk 하나를 저장(flush 포함)하는 시간", tags);
+        this.chunkTimer = createTimer(meterRegistry, "batch.member.chunk", "chunk 하나를 읽고 쓰고 커밋하는 시간", tags);
+        this.itemCounter = Counter.builder("batch.member.items").description("저장한 item 수").tags(tags).register(meterRegistry);
+        this.readErrorCounter = createErrorCounter(meterRegistry, "read", tags);
+        this.processErrorCounter = createErrorCounter(meterRegistry, "process", tags);
+        this.writeErrorCounter = createErrorCounter(meterRegistry, "write", tags);
+        this.chunkErrorCounter = createErrorCounter(meterRegistry, "chunk", tags);
+        this.skipCounter = Counter.builder("batch.member.skip").description("skip된 item 수").tags(tags).register(meterRegistry);
+        this.rollbackCounter = Counter.builder("batch.member.rollback").description("롤백(재시도)된 chunk 수").tags(tags).register(meterRegistry);
+    }
+
+    private static Tags createTags(StepExecution stepExecution) {
+        String stepName = stepExecution.getStepName();
+        int separatorIndex = stepName.indexOf(':');
+        return Tags.of(
+                "job", stepExecution.getJobExecution().getJobInstance().getJobName(),
+                "step", separatorIndex < 0 ? stepName : stepName.substring(0, separatorIndex),
+                "partition", separatorIndex < 0 ? "none" : stepName.substring(separatorIndex + 1)
+        );
+    }
+
+    private static Timer createTimer(MeterRegistry meterRegistry, String name, String description, Tags tags) {
+        return Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    private static Counter createErrorCounter(MeterRegistry meterRegistry, String phase, Tags tags) {
+        return Counter.builder("batch.member.errors")
+                .description("단계별 오류 수")
+                .tags(tags)
+                .tag("phase", phase)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        skipCounter.increment(stepExecution.getSkipCount());
+        rollbackCounter.increment(stepExecution.getRollbackCount());
+        return stepExecution.getExitStatus();
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        chunkStartTime = System.nanoTime();
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        chunkTimer.record(System.nanoTime() - chunkStartTime, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        chunkErrorCounter.increment();
+    }
+
+    @Override
+    public void beforeRead() {
+        readStartTime = System.nanoTime();
+    }
+
+    @Override
+    public void afterRead(Member item) {
+        readTimer.record(System.nanoTime() - readStartTime, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onReadError(Exception ex) {
+        readErrorCounter.increment();
+    }
+
+    @Override
+    public void beforeProcess(Member item) {
+        processStartTime = System.nanoTime();
+    }
+
+    @Override
+    public void afterProcess(Member item, MemberData result) {
+        processTimer.record(System.nanoTime() - processStartTime, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onProcessError(Member item, Exception e) {
+        processErrorCounter.increment();
+    }
+
+    @Override
+    public void beforeWrite(Chunk<? extends MemberData> items) {
+        writeStartTime = System.nanoTime();
+    }
+
+    @Override
+    public void afterWrite(Chunk<? extends MemberData> items) {
+        writeTimer.record(System.nanoTime() - writeStartTime, TimeUnit.NANOSECONDS);
+        itemCounter.increment(items.size());
+    }
+
+    @Override
+    public void onWriteError(Exception exception, Chunk<? extends MemberData> items) {
+        writeErrorCounter.increment();
+    }
+}
@@ -1,34 +1,152 @@
 package com.psh10066.example;
 
-import org.springframework.batch.core.Job;
-import org.springframework.batch.core.JobExecutionException;
-import org.springframework.batch.core.JobParameters;
-import org.springframework.batch.core.JobParametersBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.*;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 @Component
 @EnableScheduling
+@ConditionalOnProperty(name = "batch.scheduler.enabled", havingValue = "true", matchIfMissing = true)
 public class BatchScheduler {
 
+    private static final Logger log = LoggerFactory.getLogger(BatchScheduler.class);
+
+    /**
+     * 이전 실행이 끝나기 전에 스케줄이 다시 실행되었을 때의 처리 방식
+     */
+    public enum OverlapPolicy {
+        /**
+         * 실행하지 않고 건너뛴다.
+         */
+        SKIP,
+        /**
+         * 겹친 횟수만큼 이전 실행이 끝난 뒤 차례로 실행한다.
+         */
+        QUEUE,
+        /**
+         * 겹친 횟수와 관계없이 이전 실행이 끝난 뒤 한 번만 더 실행한다.
+         */
+        COALESCE
+    }
+
     private final JobLauncher jobLauncher;
     private final Job testJob;
+    private final JobExplorer jobExplorer;
+    private final BatchSchedulerLock batchSchedulerLock;
+    private final OverlapPolicy overlapPolicy;
+    private final Duration staleExecutionTimeout;
+    private final boolean incremental;
+    private final SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("testJob-launcher-");
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicInteger pendingCount = new AtomicInteger();
 
-    public BatchScheduler(JobLauncher jobLauncher, Job testJob) {
+    public BatchScheduler(
+            JobLauncher jobLauncher,
+            Job testJob,
+            JobExplorer jobExplorer,
+            BatchSchedulerLock batchSchedulerLock,
+            @Value("${batch.scheduler.overlap-policy:skip}") OverlapPolicy overlapPolicy,
+            @Value("${batch.scheduler.stale-execution-timeout:10m}") Duration staleExecutionTimeout,
+            @Value("${batch.scheduler.incremental:false}") boolean incremental
+    ) {
         this.jobLauncher = jobLauncher;
         this.testJob = testJob;
+        this.jobExplorer = jobExplorer;
+        this.batchSchedulerLock = batchSchedulerLock;
+        this.overlapPolicy = overlapPolicy;
+        this.staleExecutionTimeout = staleExecutionTimeout;
+        this.incremental = incremental;
+        this.taskExecutor.setVirtualThreads(true);
     }
 
+    /**
+     * job은 별도 스레드에서 실행하고, 실행 중에 들어온 스케줄은 overlapPolicy에 따라 처리한다.
+     */
     @Scheduled(cron = "*/5 * * * * *", zone = "Asia/Seoul")
-    public void testScheduler() throws JobExecutionException {
-        JobParameters jobParameters = new JobParametersBuilder()
-                .addLocalDateTime("dateTime", LocalDateTime.now())
-                .toJobParameters();
+    public void testScheduler() {
+        if (running.compareAndSet(false, true)) {
+            taskExecutor.execute(this::runPending);
+            return;
+        }
+
+        switch (overlapPolicy) {
+            case SKIP -> log.info("testJob 실행 중이므로 건너뜀");
+            case QUEUE -> pendingCount.incrementAndGet();
+            case COALESCE -> pendingCount.set(1);
+        }
+    }
+
+    private void runPending() {
+        try {
+            do {
+                run();
+            } while (pendingCount.getAndUpdate(count -> Math.max(count - 1, 0)) > 0);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 다른 서버나 수동 실행으로 이미 실행 중인 경우에는 그 실행이 처리하므로 overlapPolicy와 관계없이 건너뛴다.
+     */
+    private void run() {
+        if (!batchSchedulerLock.tryLock(testJob.getName())) {
+            log.info("다른 서버에서 testJob 실행 중이므로 건너뜀");
+            return;
+        }
+
+        try {
+            if (isRunning()) {
+                log.info("실행 중인 testJob이 있으므로 건너뜀");
+                return;
+            }
+
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addLocalDateTime("dateTime", LocalDateTime.now())
+                    .addString("incremental", String.valueOf(incremental))
+                    .toJobParameters();
+
+            jobLauncher.run(testJob, jobParameters);
+        } catch (JobExecutionException e) {
+            log.warn("testJob 실행 실패 : {}", e.getMessage());
+        } finally {
+            batchSchedulerLock.unlock(testJob.getName());
+        }
+    }
+
+    /**
+     * 서버가 비정상 종료되어 STARTED 상태로 남은 실행은 staleExecutionTimeout 동안 갱신이 없으면 무시한다.
+     */
+    private boolean isRunning() {
+        LocalDateTime threshold = LocalDateTime.now().minus(staleExecutionTimeout);
+        return jobExplorer.findRunningJobExecutions(testJob.getName()).stream()
+                .anyMatch(jobExecution -> getLastUpdated(jobExecution).isAfter(threshold));
+    }
 
-        jobLauncher.run(testJob, jobParameters);
+    private static LocalDateTime getLastUpdated(JobExecution jobExecution) {
+        return Stream.concat(
+                        Stream.of(jobExecution.getCreateTime(), jobExecution.getLastUpdated()),
+                        jobExecution.getStepExecutions().stream().map(StepExecution::getLastUpdated)
+                )
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(LocalDateTime.MIN);
     }
 }
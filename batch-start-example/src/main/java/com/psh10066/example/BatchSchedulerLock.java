@@ -0,0 +1,58 @@
+package com.psh10066.example;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * scheduler_lock 테이블을 이용한 서버 간 잠금
+ * <p>
+ * 잠금은 leaseTime 동안 유지되며, 잠금을 잡은 서버가 unlock 없이 종료되어도 leaseTime이 지나면 다른 서버가 가져갈 수 있다.
+ * 서버 간 시각 차이보다 충분히 길게 설정해야 한다.
+ */
+@Component
+public class BatchSchedulerLock {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final String nodeId;
+    private final Duration leaseTime;
+
+    @Autowired
+    public BatchSchedulerLock(
+            SchedulerLockRepository schedulerLockRepository,
+            @Value("${batch.scheduler.lock.lease-time:30m}") Duration leaseTime
+    ) {
+        this(schedulerLockRepository, UUID.randomUUID().toString(), leaseTime);
+    }
+
+    BatchSchedulerLock(SchedulerLockRepository schedulerLockRepository, String nodeId, Duration leaseTime) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.nodeId = nodeId;
+        this.leaseTime = leaseTime;
+    }
+
+    public boolean tryLock(String name) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lockedUntil = now.plus(leaseTime);
+        if (schedulerLockRepository.lock(name, nodeId, now, lockedUntil) > 0) {
+            return true;
+        }
+
+        try {
+            schedulerLockRepository.insert(name, nodeId, lockedUntil);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버가 잠금을 잡고 있다.
+            return false;
+        }
+    }
+
+    public void unlock(String name) {
+        schedulerLockRepository.unlock(name, nodeId, LocalDateTime.now());
+    }
+}
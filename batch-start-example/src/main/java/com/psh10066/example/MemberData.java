@@ -24,6 +24,10 @@ public class MemberData {
         this.data = data;
     }
 
+    public UUID getId() {
+        return id;
+    }
+
     public Long getMemberId() {
         return memberId;
     }
@@ -0,0 +1,23 @@
+package com.psh10066.example;
+
+import java.util.UUID;
+
+/**
+ * MemberData의 id 생성 전략
+ */
+@FunctionalInterface
+public interface MemberDataIdGenerator {
+
+    UUID generate();
+
+    /**
+     * @param type random : UUID v4, time-ordered : UUID v7
+     */
+    static MemberDataIdGenerator of(String type) {
+        return switch (type) {
+            case "random" -> UUID::randomUUID;
+            case "time-ordered" -> new TimeOrderedMemberDataIdGenerator();
+            default -> throw new IllegalArgumentException("지원하지 않는 id 생성 전략입니다. : " + type);
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package com.psh10066.example;
+
+import org.springframework.batch.item.ItemProcessor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Member를 "Hello {name} : {dateTime}" 형식의 MemberData로 변환한다.
+ * <p>
+ * step 내에서 변하지 않는 " : {dateTime}"은 생성 시 한 번만 만들고, 문자열 버퍼는 item마다 재사용한다.
+ * 버퍼를 재사용하므로 thread-safe 하지 않으며, step(파티션)마다 인스턴스가 생성되는 @StepScope로 사용한다.
+ */
+public class MemberDataItemProcessor implements ItemProcessor<Member, MemberData> {
+
+    private static final String PREFIX = "Hello ";
+    private static final int DEFAULT_NAME_LENGTH = 16;
+
+    private final MemberDataIdGenerator memberDataIdGenerator;
+    private final String suffix;
+    private final StringBuilder builder;
+
+    public MemberDataItemProcessor(LocalDateTime dateTime, MemberDataIdGenerator memberDataIdGenerator) {
+        this.memberDataIdGenerator = memberDataIdGenerator;
+        this.suffix = " : " + dateTime;
+        this.builder = new StringBuilder(PREFIX.length() + DEFAULT_NAME_LENGTH + suffix.length());
+    }
+
+    @Override
+    public MemberData process(Member item) {
+        String name = String.valueOf(item.getName());
+        builder.setLength(0);
+        builder.ensureCapacity(PREFIX.length() + name.length() + suffix.length());
+        String data = builder.append(PREFIX).append(name).append(suffix).toString();
+
+        return new MemberData(memberDataIdGenerator.generate(), item.getId(), data);
+    }
+}
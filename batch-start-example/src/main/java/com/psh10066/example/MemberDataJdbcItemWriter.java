@@ -0,0 +1,61 @@
+package com.psh10066.example;
+
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.support.DatabaseType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * 영속성 컨텍스트 없이 JdbcTemplate.batchUpdate로 MemberData를 저장하는 writer
+ * <p>
+ * UUID 타입이 없는 Oracle은 Hibernate와 동일하게 RAW(16)으로 저장한다.
+ */
+public class MemberDataJdbcItemWriter implements ItemWriter<MemberData> {
+
+    private static final String INSERT_SQL = "INSERT INTO member_data (id, member_id, data) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final boolean uuidAsBytes;
+
+    public MemberDataJdbcItemWriter(DataSource dataSource, int batchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.batchSize = batchSize;
+        this.uuidAsBytes = isOracle(dataSource);
+    }
+
+    @Override
+    public void write(Chunk<? extends MemberData> chunk) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, chunk.getItems(), batchSize, (ps, item) -> {
+            setUuid(ps, 1, item.getId());
+            ps.setLong(2, item.getMemberId());
+            ps.setString(3, item.getData());
+        });
+    }
+
+    private void setUuid(PreparedStatement ps, int parameterIndex, UUID uuid) throws SQLException {
+        if (uuidAsBytes) {
+            ps.setBytes(parameterIndex, ByteBuffer.allocate(16)
+                    .putLong(uuid.getMostSignificantBits())
+                    .putLong(uuid.getLeastSignificantBits())
+                    .array());
+        } else {
+            ps.setObject(parameterIndex, uuid);
+        }
+    }
+
+    private static boolean isOracle(DataSource dataSource) {
+        try {
+            return DatabaseType.fromMetaData(dataSource) == DatabaseType.ORACLE;
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("DB 종류를 확인할 수 없습니다.", e);
+        }
+    }
+}
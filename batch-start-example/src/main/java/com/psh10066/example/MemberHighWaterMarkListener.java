@@ -0,0 +1,90 @@
+package com.psh10066.example;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.*;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * job 실행 전 처리할 Member.id 범위(minId ~ maxId, 양 끝 포함)를 job ExecutionContext에 저장한다.
+ * <p>
+ * 처리한 마지막 id(highWaterMark)를 함께 저장하며, incremental 파라미터가 true이면
+ * 마지막으로 COMPLETED 된 실행의 highWaterMark 이후의 Member만 처리한다. fullRebuild 파라미터가 true이면 전체를 다시 처리한다.
+ * <p>
+ * id 기준이므로 이미 처리한 Member의 변경은 반영하지 않는다.
+ * <p>
+ * 실패한 job instance를 재시작하면 이전 실행의 범위를 그대로 사용한다.
+ * 완료된 파티션은 건너뛰고 실패한 파티션은 이전 범위로 다시 실행되므로, 범위를 다시 계산하면 그 사이 추가된 Member를 처리하지 않고 highWaterMark만 올라간다.
+ */
+@Component
+public class MemberHighWaterMarkListener implements JobExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberHighWaterMarkListener.class);
+
+    public static final String HIGH_WATER_MARK_KEY = "highWaterMark";
+
+    private static final int JOB_INSTANCE_PAGE_SIZE = 100;
+
+    private final MemberRepository memberRepository;
+    private final JobExplorer jobExplorer;
+
+    public MemberHighWaterMarkListener(MemberRepository memberRepository, JobExplorer jobExplorer) {
+        this.memberRepository = memberRepository;
+        this.jobExplorer = jobExplorer;
+    }
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        ExecutionContext executionContext = jobExecution.getExecutionContext();
+        if (executionContext.containsKey(MemberIdRangePartitioner.MIN_ID_KEY)
+                && executionContext.containsKey(MemberIdRangePartitioner.MAX_ID_KEY)
+                && executionContext.containsKey(HIGH_WATER_MARK_KEY)) {
+            log.info("testJob 재시작, 이전 처리 범위 사용 : {} ~ {}",
+                    executionContext.getLong(MemberIdRangePartitioner.MIN_ID_KEY), executionContext.getLong(MemberIdRangePartitioner.MAX_ID_KEY));
+            return;
+        }
+
+        JobParameters jobParameters = jobExecution.getJobParameters();
+        boolean incremental = "true".equals(jobParameters.getString("incremental"))
+                && !"true".equals(jobParameters.getString("fullRebuild"));
+
+        Long lastHighWaterMark = incremental ? findLastHighWaterMark(jobExecution.getJobInstance().getJobName()) : null;
+        Long minId = lastHighWaterMark != null ? lastHighWaterMark + 1 : memberRepository.findMinId();
+        Long maxId = memberRepository.findMaxId();
+        if (maxId == null) {
+            // 처리할 Member가 없다.
+            minId = 1L;
+            maxId = 0L;
+        }
+
+        executionContext.putLong(MemberIdRangePartitioner.MIN_ID_KEY, minId);
+        executionContext.putLong(MemberIdRangePartitioner.MAX_ID_KEY, maxId);
+        executionContext.putLong(HIGH_WATER_MARK_KEY, lastHighWaterMark != null ? Math.max(lastHighWaterMark, maxId) : maxId);
+
+        log.info("testJob 처리 범위 : {} ~ {}", minId, maxId);
+    }
+
+    /**
+     * 최근 job instance부터 COMPLETED 된 실행을 찾는다.
+     */
+    private Long findLastHighWaterMark(String jobName) {
+        for (int start = 0; ; start += JOB_INSTANCE_PAGE_SIZE) {
+            List<JobInstance> jobInstances = jobExplorer.getJobInstances(jobName, start, JOB_INSTANCE_PAGE_SIZE);
+            for (JobInstance jobInstance : jobInstances) {
+                for (JobExecution jobExecution : jobExplorer.getJobExecutions(jobInstance)) {
+                    if (jobExecution.getStatus() == BatchStatus.COMPLETED
+                            && jobExecution.getExecutionContext().containsKey(HIGH_WATER_MARK_KEY)) {
+                        return jobExecution.getExecutionContext().getLong(HIGH_WATER_MARK_KEY);
+                    }
+                }
+            }
+            if (jobInstances.size() < JOB_INSTANCE_PAGE_SIZE) {
+                return null;
+            }
+        }
+    }
+}
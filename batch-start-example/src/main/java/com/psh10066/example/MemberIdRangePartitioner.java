@@ -0,0 +1,66 @@
+package com.psh10066.example;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Member.id의 최솟값 ~ 최댓값을 gridSize 개의 구간으로 나누어 각 파티션의 minId, maxId(양 끝 포함)를 지정한다.
+ * <p>
+ * minId, maxId를 지정하면 해당 범위 안에서만 나눈다.
+ */
+public class MemberIdRangePartitioner implements Partitioner {
+
+    public static final String MIN_ID_KEY = "minId";
+    public static final String MAX_ID_KEY = "maxId";
+
+    private final MemberRepository memberRepository;
+    private final Long minIdBound;
+    private final Long maxIdBound;
+
+    public MemberIdRangePartitioner(MemberRepository memberRepository) {
+        this(memberRepository, null, null);
+    }
+
+    public MemberIdRangePartitioner(MemberRepository memberRepository, Long minIdBound, Long maxIdBound) {
+        this.memberRepository = memberRepository;
+        this.minIdBound = minIdBound;
+        this.maxIdBound = maxIdBound;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Long minId = memberRepository.findMinId();
+        Long maxId = memberRepository.findMaxId();
+        if (minId != null && minIdBound != null) {
+            minId = Math.max(minId, minIdBound);
+        }
+        if (maxId != null && maxIdBound != null) {
+            maxId = Math.min(maxId, maxIdBound);
+        }
+
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        if (minId == null || maxId == null || minId > maxId) {
+            partitions.put("partition0", createContext(1L, 0L));
+            return partitions;
+        }
+
+        long rangeSize = (maxId - minId) / gridSize + 1;
+        long start = minId;
+        for (int i = 0; i < gridSize && start <= maxId; i++) {
+            long end = Math.min(start + rangeSize - 1, maxId);
+            partitions.put("partition" + i, createContext(start, end));
+            start = end + 1;
+        }
+        return partitions;
+    }
+
+    private ExecutionContext createContext(long minId, long maxId) {
+        ExecutionContext executionContext = new ExecutionContext();
+        executionContext.putLong(MIN_ID_KEY, minId);
+        executionContext.putLong(MAX_ID_KEY, maxId);
+        return executionContext;
+    }
+}
@@ -0,0 +1,118 @@
+package com.psh10066.example;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * OFFSET 대신 마지막으로 읽은 id 이후의 데이터를 조회하는 keyset(seek) 페이징 reader
+ * <p>
+ * 마지막으로 읽은 id를 ExecutionContext에 저장하므로 재시작 시 해당 id 이후부터 다시 읽는다.
+ * minId, maxId를 지정하면 해당 범위(양 끝 포함)의 데이터만 읽는다.
+ */
+public class MemberKeysetItemReader implements ItemStreamReader<Member> {
+
+    private static final String LAST_ID_KEY = "lastId";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final String name;
+    private final int pageSize;
+    private final Long minId;
+    private final Long maxId;
+
+    private EntityManager entityManager;
+    private Iterator<Member> page = Collections.emptyIterator();
+    private boolean lastPage;
+    private Long lastId;
+
+    public MemberKeysetItemReader(EntityManagerFactory entityManagerFactory, String name, int pageSize) {
+        this(entityManagerFactory, name, pageSize, null, null);
+    }
+
+    public MemberKeysetItemReader(EntityManagerFactory entityManagerFactory, String name, int pageSize, Long minId, Long maxId) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.name = name;
+        this.pageSize = pageSize;
+        this.minId = minId;
+        this.maxId = maxId;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        entityManager = entityManagerFactory.createEntityManager();
+        page = Collections.emptyIterator();
+        lastPage = false;
+        lastId = executionContext.containsKey(getLastIdKey()) ? executionContext.getLong(getLastIdKey()) : null;
+    }
+
+    @Override
+    public Member read() {
+        if (!page.hasNext()) {
+            if (lastPage) {
+                return null;
+            }
+            List<Member> members = readPage();
+            lastPage = members.size() < pageSize;
+            page = members.iterator();
+            if (!page.hasNext()) {
+                return null;
+            }
+        }
+
+        Member member = page.next();
+        lastId = member.getId();
+        return member;
+    }
+
+    private List<Member> readPage() {
+        entityManager.clear();
+
+        List<String> conditions = new ArrayList<>();
+        if (lastId != null) {
+            conditions.add("o.id > :lastId");
+        } else if (minId != null) {
+            conditions.add("o.id >= :minId");
+        }
+        if (maxId != null) {
+            conditions.add("o.id <= :maxId");
+        }
+
+        String where = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+        TypedQuery<Member> query = entityManager.createQuery("SELECT o FROM Member o" + where + " ORDER BY o.id", Member.class);
+        if (lastId != null) {
+            query.setParameter("lastId", lastId);
+        } else if (minId != null) {
+            query.setParameter("minId", minId);
+        }
+        if (maxId != null) {
+            query.setParameter("maxId", maxId);
+        }
+        return query.setMaxResults(pageSize).getResultList();
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        if (lastId != null) {
+            executionContext.putLong(getLastIdKey(), lastId);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (entityManager != null) {
+            entityManager.close();
+            entityManager = null;
+        }
+    }
+
+    private String getLastIdKey() {
+        return name + "." + LAST_ID_KEY;
+    }
+}
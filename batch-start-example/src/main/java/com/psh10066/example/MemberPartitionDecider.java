@@ -0,0 +1,21 @@
+package com.psh10066.example;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.job.flow.FlowExecutionStatus;
+import org.springframework.batch.core.job.flow.JobExecutionDecider;
+
+/**
+ * gridSize 파라미터가 2 이상이면 파티션 step으로, 아니면 단일 step으로 실행한다.
+ */
+public class MemberPartitionDecider implements JobExecutionDecider {
+
+    public static final String PARTITIONED = "PARTITIONED";
+    public static final String SINGLE = "SINGLE";
+
+    @Override
+    public FlowExecutionStatus decide(JobExecution jobExecution, StepExecution stepExecution) {
+        Long gridSize = jobExecution.getJobParameters().getLong("gridSize");
+        return new FlowExecutionStatus(gridSize != null && gridSize > 1 ? PARTITIONED : SINGLE);
+    }
+}
@@ -1,6 +1,13 @@
 package com.psh10066.example;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
+
+    @Query("SELECT MIN(o.id) FROM Member o")
+    Long findMinId();
+
+    @Query("SELECT MAX(o.id) FROM Member o")
+    Long findMaxId();
 }
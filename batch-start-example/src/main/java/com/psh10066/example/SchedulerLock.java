@@ -0,0 +1,37 @@
+package com.psh10066.example;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import java.time.LocalDateTime;
+
+/**
+ * 여러 서버에서 같은 스케줄이 동시에 실행되지 않도록 잡는 잠금
+ * <p>
+ * lockedUntil이 지나면 잠금을 잡은 서버가 종료되었다고 보고 다른 서버가 잠금을 가져갈 수 있다.
+ */
+@Entity
+public class SchedulerLock {
+
+    @Id
+    private String name;
+
+    private String lockedBy;
+
+    private LocalDateTime lockedUntil;
+
+    protected SchedulerLock() {
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getLockedBy() {
+        return lockedBy;
+    }
+
+    public LocalDateTime getLockedUntil() {
+        return lockedUntil;
+    }
+}
@@ -0,0 +1,34 @@
+package com.psh10066.example;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    /**
+     * 잠금이 만료되었거나 자신이 잡고 있는 경우에만 잠금을 갱신한다.
+     *
+     * @return 잠금을 잡았으면 1, 아니면 0
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLock o SET o.lockedBy = :lockedBy, o.lockedUntil = :lockedUntil WHERE o.name = :name AND (o.lockedUntil <= :now OR o.lockedBy = :lockedBy)")
+    int lock(String name, String lockedBy, LocalDateTime now, LocalDateTime lockedUntil);
+
+    /**
+     * 잠금 row가 없을 때 생성한다. 다른 서버가 먼저 생성했다면 DataIntegrityViolationException이 발생한다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO scheduler_lock (name, locked_by, locked_until) VALUES (:name, :lockedBy, :lockedUntil)", nativeQuery = true)
+    void insert(String name, String lockedBy, LocalDateTime lockedUntil);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLock o SET o.lockedUntil = :now WHERE o.name = :name AND o.lockedBy = :lockedBy")
+    int unlock(String name, String lockedBy, LocalDateTime now);
+}
@@ -14,11 +14,22 @@ public class TestJobConfiguration {
     @Bean
     public Job testJob(
             JobRepository jobRepository,
-            Step testStep
+            Step testStep,
+            Step testPartitionStep,
+            MemberHighWaterMarkListener memberHighWaterMarkListener,
+            BatchMetricsJobListener batchMetricsJobListener
     ) {
+        MemberPartitionDecider memberPartitionDecider = new MemberPartitionDecider();
+
         return new JobBuilder("testJob", jobRepository)
-                .validator(new DefaultJobParametersValidator(new String[]{"dateTime"}, new String[0]))
-                .start(testStep)
+                .validator(new DefaultJobParametersValidator(new String[]{"dateTime"}, new String[]{"gridSize", "chunkSize", "pageSize", "targetCommitMillis", "incremental", "fullRebuild"}))
+                .listener(memberHighWaterMarkListener)
+                .listener(batchMetricsJobListener)
+                .start(memberPartitionDecider)
+                    .on(MemberPartitionDecider.PARTITIONED).to(testPartitionStep)
+                .from(memberPartitionDecider)
+                    .on("*").to(testStep)
+                .end()
                 .build();
     }
 }
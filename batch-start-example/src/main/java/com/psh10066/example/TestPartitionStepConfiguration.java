@@ -0,0 +1,45 @@
+package com.psh10066.example;
+
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+@Configuration
+public class TestPartitionStepConfiguration {
+
+    @Bean
+    @JobScope
+    public Step testPartitionStep(
+            JobRepository jobRepository,
+            Step testStep,
+            MemberIdRangePartitioner memberIdRangePartitioner,
+            @Value("#{jobParameters['gridSize']}") Long gridSize,
+            @Value("${batch.partition.concurrency-limit:8}") int concurrencyLimit
+    ) {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("testStep-partition-");
+        taskExecutor.setVirtualThreads(true);
+        taskExecutor.setConcurrencyLimit(concurrencyLimit);
+
+        return new StepBuilder("testPartitionStep", jobRepository)
+                .partitioner("testStep", memberIdRangePartitioner)
+                .step(testStep)
+                .gridSize(gridSize.intValue())
+                .taskExecutor(taskExecutor)
+                .build();
+    }
+
+    @Bean
+    @JobScope
+    public MemberIdRangePartitioner memberIdRangePartitioner(
+            MemberRepository memberRepository,
+            @Value("#{jobExecutionContext['minId']}") Long minId,
+            @Value("#{jobExecutionContext['maxId']}") Long maxId
+    ) {
+        return new MemberIdRangePartitioner(memberRepository, minId, maxId);
+    }
+}
@@ -1,13 +1,18 @@
 package com.psh10066.example;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityManagerFactory;
-import org.springframework.batch.core.Step;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.*;
 import org.springframework.batch.core.configuration.annotation.JobScope;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.builder.JpaItemWriterBuilder;
 import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
@@ -16,13 +21,17 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import javax.sql.DataSource;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.util.Map;
 
 @Configuration
 public class TestStepConfiguration {
 
-    private static final int CHUNK_SIZE = 1000;
+    private static final Logger log = LoggerFactory.getLogger(TestStepConfiguration.class);
+
+    private static final int DEFAULT_CHUNK_SIZE = 1000;
 
     @Bean
     @JobScope
@@ -32,42 +41,112 @@ public class TestStepConfiguration {
             ItemReader<Member> memberItemReader,
             ItemProcessor<Member, MemberData> memberDataItemProcessor,
             ItemWriter<MemberData> memberDataItemWriter,
-            @Value("#{jobParameters['dateTime']}") LocalDateTime dateTime
+            BatchMetricsListener batchMetricsListener,
+            @Value("#{jobParameters['dateTime']}") LocalDateTime dateTime,
+            @Value("#{jobParameters['chunkSize']}") Long chunkSize,
+            @Value("#{jobParameters['targetCommitMillis']}") Long targetCommitMillis,
+            @Value("${batch.chunk.adaptive.min-size:100}") int adaptiveMinChunkSize,
+            @Value("${batch.chunk.adaptive.max-size:10000}") int adaptiveMaxChunkSize
     ) {
-        System.out.println("testJob 실행 시각 : " + dateTime);
+        log.info("testJob 실행 시각 : {}", dateTime);
+
+        int initialChunkSize = chunkSize == null ? DEFAULT_CHUNK_SIZE : chunkSize.intValue();
+        SimpleStepBuilder<Member, MemberData> stepBuilder;
+        if (targetCommitMillis == null) {
+            stepBuilder = new StepBuilder("testStep", jobRepository)
+                    .<Member, MemberData>chunk(initialChunkSize, platformTransactionManager);
+        } else {
+            AdaptiveChunkCompletionPolicy completionPolicy = new AdaptiveChunkCompletionPolicy(
+                    initialChunkSize,
+                    Duration.ofMillis(targetCommitMillis),
+                    adaptiveMinChunkSize,
+                    adaptiveMaxChunkSize
+            );
+            stepBuilder = new StepBuilder("testStep", jobRepository)
+                    .<Member, MemberData>chunk(completionPolicy, platformTransactionManager)
+                    .listener(completionPolicy);
+        }
 
-        return new StepBuilder("testStep", jobRepository)
-                .<Member, MemberData>chunk(CHUNK_SIZE, platformTransactionManager)
+        return stepBuilder
                 .reader(memberItemReader)
                 .processor(memberDataItemProcessor)
                 .writer(memberDataItemWriter)
+                .listener((StepExecutionListener) batchMetricsListener)
+                .listener((ChunkListener) batchMetricsListener)
+                .listener((ItemReadListener<Member>) batchMetricsListener)
+                .listener((ItemProcessListener<Member, MemberData>) batchMetricsListener)
+                .listener((ItemWriteListener<MemberData>) batchMetricsListener)
                 .build();
     }
 
     @Bean
-    public ItemReader<Member> memberItemReader(EntityManagerFactory entityManagerFactory) {
+    @StepScope
+    public BatchMetricsListener batchMetricsListener(
+            MeterRegistry meterRegistry,
+            @Value("#{stepExecution}") StepExecution stepExecution
+    ) {
+        return new BatchMetricsListener(meterRegistry, stepExecution);
+    }
+
+    @Bean
+    @StepScope
+    public ItemStreamReader<Member> memberItemReader(
+            EntityManagerFactory entityManagerFactory,
+            @Value("${batch.reader.keyset:false}") boolean keyset,
+            @Value("#{jobParameters['pageSize'] ?: jobParameters['chunkSize']}") Long pageSize,
+            @Value("#{stepExecutionContext['minId'] ?: jobExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId'] ?: jobExecutionContext['maxId']}") Long maxId
+    ) {
+        int readerPageSize = pageSize == null ? DEFAULT_CHUNK_SIZE : pageSize.intValue();
+
+        if (keyset) {
+            return new MemberKeysetItemReader(entityManagerFactory, "memberItemReader", readerPageSize, minId, maxId);
+        }
+
+        if (minId != null && maxId != null) {
+            return new JpaPagingItemReaderBuilder<Member>()
+                    .entityManagerFactory(entityManagerFactory)
+                    .name("memberItemReader")
+                    .pageSize(readerPageSize)
+                    .queryString("SELECT o FROM Member o WHERE o.id BETWEEN :minId AND :maxId ORDER BY o.id")
+                    .parameterValues(Map.<String, Object>of("minId", minId, "maxId", maxId))
+                    .build();
+        }
+
         return new JpaPagingItemReaderBuilder<Member>()
                 .entityManagerFactory(entityManagerFactory)
                 .name("memberItemReader")
-                .pageSize(CHUNK_SIZE)
+                .pageSize(readerPageSize)
                 .queryString("SELECT o FROM Member o ORDER BY o.id")
                 .build();
     }
 
     @Bean
     @StepScope
-    public ItemProcessor<Member, MemberData> memberDataItemProcessor(
-            @Value("#{jobParameters['dateTime']}") LocalDateTime dateTime
+    public MemberDataItemProcessor memberDataItemProcessor(
+            @Value("#{jobParameters['dateTime']}") LocalDateTime dateTime,
+            MemberDataIdGenerator memberDataIdGenerator
     ) {
-        return item -> new MemberData(
-                UUID.randomUUID(),
-                item.getId(),
-                "Hello " + item.getName() + " : " + dateTime
-        );
+        return new MemberDataItemProcessor(dateTime, memberDataIdGenerator);
     }
 
     @Bean
-    public ItemWriter<MemberData> memberDataItemWriter(EntityManagerFactory entityManagerFactory) {
+    public MemberDataIdGenerator memberDataIdGenerator(@Value("${batch.member-data.id-generator:time-ordered}") String type) {
+        return MemberDataIdGenerator.of(type);
+    }
+
+    @Bean
+    @StepScope
+    public ItemWriter<MemberData> memberDataItemWriter(
+            EntityManagerFactory entityManagerFactory,
+            DataSource dataSource,
+            @Value("${batch.writer.jdbc:false}") boolean jdbc,
+            @Value("${batch.writer.jdbc-batch-size:1000}") int jdbcBatchSize
+    ) {
+        if (jdbc) {
+            return new MemberDataJdbcItemWriter(dataSource, jdbcBatchSize);
+        }
+
         return new JpaItemWriterBuilder<MemberData>()
                 .entityManagerFactory(entityManagerFactory)
                 .usePersist(true)
@@ -0,0 +1,43 @@
+package com.psh10066.example;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순으로 증가하는 UUID v7 (RFC 9562) 생성기
+ * <p>
+ * 48bit unix ms timestamp 뒤의 12bit(rand_a)를 카운터로 사용하므로, 여러 step에서 동시에 호출해도 lock 없이(CAS) 항상 증가하는 값을 반환한다.
+ * 같은 ms 안에서 카운터가 넘치면 timestamp를 1ms 앞당긴다.
+ */
+public class TimeOrderedMemberDataIdGenerator implements MemberDataIdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_RFC = 0x8000000000000000L;
+
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+    private final LongSupplier clock;
+
+    public TimeOrderedMemberDataIdGenerator() {
+        this(System::currentTimeMillis);
+    }
+
+    TimeOrderedMemberDataIdGenerator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public UUID generate() {
+        long timestampAndCounter = lastTimestampAndCounter.updateAndGet(
+                last -> Math.max(clock.getAsLong() << COUNTER_BITS, last + 1)
+        );
+
+        long mostSigBits = (timestampAndCounter >>> COUNTER_BITS) << 16 | VERSION_7 | (timestampAndCounter & COUNTER_MASK);
+        long leastSigBits = ThreadLocalRandom.current().nextLong() & VARIANT_MASK | VARIANT_RFC;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
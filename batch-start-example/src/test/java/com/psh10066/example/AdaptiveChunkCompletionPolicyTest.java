@@ -0,0 +1,95 @@
+package com.psh10066.example;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatContext;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveChunkCompletionPolicyTest {
+
+    private long now;
+    private AdaptiveChunkCompletionPolicy policy;
+    private StepExecution stepExecution;
+    private ChunkContext chunkContext;
+
+    @BeforeEach
+    void setUp() {
+        policy = new AdaptiveChunkCompletionPolicy(1000, Duration.ofMillis(100), 100, 3000, () -> now);
+        stepExecution = new StepExecution("testStep", new JobExecution(1L));
+        chunkContext = new ChunkContext(new StepContext(stepExecution));
+    }
+
+    @Test
+    void isComplete() {
+        // given
+        RepeatContext context = policy.start(null);
+
+        // when
+        for (int i = 0; i < 999; i++) {
+            policy.update(context);
+        }
+
+        // then
+        assertThat(policy.isComplete(context)).isFalse();
+        policy.update(context);
+        assertThat(policy.isComplete(context)).isTrue();
+    }
+
+    @Test
+    void slowChunk() {
+        // when
+        runChunk(400);
+
+        // then
+        assertThat(getExecutionContext().getInt(AdaptiveChunkCompletionPolicy.CHUNK_SIZE_KEY)).isEqualTo(500);
+        assertThat(getExecutionContext().getInt(AdaptiveChunkCompletionPolicy.MIN_CHUNK_SIZE_KEY)).isEqualTo(500);
+        assertThat(getExecutionContext().getInt(AdaptiveChunkCompletionPolicy.MAX_CHUNK_SIZE_KEY)).isEqualTo(1000);
+    }
+
+    @Test
+    void fastChunk() {
+        // when
+        runChunk(80);
+
+        // then
+        assertThat(getExecutionContext().getInt(AdaptiveChunkCompletionPolicy.CHUNK_SIZE_KEY)).isEqualTo(1250);
+    }
+
+    @Test
+    void boundedByMinAndMaxSize() {
+        // when
+        runChunk(1);
+        runChunk(1);
+
+        // then
+        assertThat(getExecutionContext().getInt(AdaptiveChunkCompletionPolicy.CHUNK_SIZE_KEY)).isEqualTo(3000);
+        assertThat(getExecutionContext().getInt(AdaptiveChunkCompletionPolicy.MAX_CHUNK_SIZE_KEY)).isEqualTo(3000);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            runChunk(10_000);
+        }
+
+        // then
+        assertThat(getExecutionContext().getInt(AdaptiveChunkCompletionPolicy.CHUNK_SIZE_KEY)).isEqualTo(100);
+        assertThat(getExecutionContext().getInt(AdaptiveChunkCompletionPolicy.MIN_CHUNK_SIZE_KEY)).isEqualTo(100);
+    }
+
+    private void runChunk(long elapsedMillis) {
+        policy.beforeChunk(chunkContext);
+        now += Duration.ofMillis(elapsedMillis).toNanos();
+        policy.afterChunk(chunkContext);
+    }
+
+    private ExecutionContext getExecutionContext() {
+        return stepExecution.getExecutionContext();
+    }
+}
@@ -0,0 +1,66 @@
+package com.psh10066.example;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class BatchSchedulerLockTest {
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    @AfterEach
+    void tearDown() {
+        schedulerLockRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void tryLock() {
+        // given
+        BatchSchedulerLock node1 = new BatchSchedulerLock(schedulerLockRepository, "node1", Duration.ofMinutes(1));
+        BatchSchedulerLock node2 = new BatchSchedulerLock(schedulerLockRepository, "node2", Duration.ofMinutes(1));
+
+        // when
+        boolean node1Locked = node1.tryLock("testJob");
+        boolean node2Locked = node2.tryLock("testJob");
+
+        // then
+        assertThat(node1Locked).isTrue();
+        assertThat(node2Locked).isFalse();
+        assertThat(schedulerLockRepository.findById("testJob").orElseThrow().getLockedBy()).isEqualTo("node1");
+    }
+
+    @Test
+    void unlock() {
+        // given
+        BatchSchedulerLock node1 = new BatchSchedulerLock(schedulerLockRepository, "node1", Duration.ofMinutes(1));
+        BatchSchedulerLock node2 = new BatchSchedulerLock(schedulerLockRepository, "node2", Duration.ofMinutes(1));
+        node1.tryLock("testJob");
+
+        // when
+        node1.unlock("testJob");
+
+        // then
+        assertThat(node2.tryLock("testJob")).isTrue();
+    }
+
+    @Test
+    void tryLock_expired() {
+        // given
+        BatchSchedulerLock node1 = new BatchSchedulerLock(schedulerLockRepository, "node1", Duration.ZERO);
+        BatchSchedulerLock node2 = new BatchSchedulerLock(schedulerLockRepository, "node2", Duration.ofMinutes(1));
+        node1.tryLock("testJob");
+
+        // when
+        boolean node2Locked = node2.tryLock("testJob");
+
+        // then
+        assertThat(node2Locked).isTrue();
+    }
+}
@@ -0,0 +1,142 @@
+package com.psh10066.example;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class BatchSchedulerTest {
+
+    private final JobLauncher jobLauncher = mock(JobLauncher.class);
+    private final Job testJob = mock(Job.class);
+    private final JobExplorer jobExplorer = mock(JobExplorer.class);
+    private final BatchSchedulerLock batchSchedulerLock = mock(BatchSchedulerLock.class);
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch finish = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        given(testJob.getName()).willReturn("testJob");
+        given(batchSchedulerLock.tryLock("testJob")).willReturn(true);
+        given(jobLauncher.run(eq(testJob), any())).willAnswer(invocation -> {
+            started.countDown();
+            finish.await();
+            return null;
+        });
+    }
+
+    @Test
+    void testScheduler_skip() throws Exception {
+        // given
+        BatchScheduler batchScheduler = createBatchScheduler(BatchScheduler.OverlapPolicy.SKIP);
+
+        // when
+        triggerWhileRunning(batchScheduler, 3);
+
+        // then
+        verify(jobLauncher, after(500).times(1)).run(eq(testJob), any());
+    }
+
+    @Test
+    void testScheduler_queue() throws Exception {
+        // given
+        BatchScheduler batchScheduler = createBatchScheduler(BatchScheduler.OverlapPolicy.QUEUE);
+
+        // when
+        triggerWhileRunning(batchScheduler, 3);
+
+        // then
+        verify(jobLauncher, after(500).times(4)).run(eq(testJob), any());
+    }
+
+    @Test
+    void testScheduler_coalesce() throws Exception {
+        // given
+        BatchScheduler batchScheduler = createBatchScheduler(BatchScheduler.OverlapPolicy.COALESCE);
+
+        // when
+        triggerWhileRunning(batchScheduler, 3);
+
+        // then
+        verify(jobLauncher, after(500).times(2)).run(eq(testJob), any());
+    }
+
+    @Test
+    void testScheduler_lockedByOtherNode() throws Exception {
+        // given
+        given(batchSchedulerLock.tryLock("testJob")).willReturn(false);
+        BatchScheduler batchScheduler = createBatchScheduler(BatchScheduler.OverlapPolicy.SKIP);
+
+        // when
+        batchScheduler.testScheduler();
+
+        // then
+        verify(jobLauncher, after(500).never()).run(any(), any());
+        verify(batchSchedulerLock, never()).unlock("testJob");
+    }
+
+    @Test
+    void testScheduler_runningExecution() throws Exception {
+        // given
+        JobExecution jobExecution = new JobExecution(1L);
+        jobExecution.setLastUpdated(LocalDateTime.now());
+        given(jobExplorer.findRunningJobExecutions("testJob")).willReturn(Set.of(jobExecution));
+        BatchScheduler batchScheduler = createBatchScheduler(BatchScheduler.OverlapPolicy.SKIP);
+
+        // when
+        batchScheduler.testScheduler();
+
+        // then
+        verify(jobLauncher, after(500).never()).run(any(), any());
+        verify(batchSchedulerLock).unlock("testJob");
+    }
+
+    @Test
+    void testScheduler_staleExecution() throws Exception {
+        // given
+        JobExecution jobExecution = new JobExecution(1L);
+        jobExecution.setCreateTime(LocalDateTime.now().minusHours(1));
+        jobExecution.setLastUpdated(LocalDateTime.now().minusHours(1));
+        given(jobExplorer.findRunningJobExecutions("testJob")).willReturn(Set.of(jobExecution));
+        finish.countDown();
+        BatchScheduler batchScheduler = createBatchScheduler(BatchScheduler.OverlapPolicy.SKIP);
+
+        // when
+        batchScheduler.testScheduler();
+
+        // then
+        verify(jobLauncher, timeout(500).times(1)).run(eq(testJob), any());
+    }
+
+    private BatchScheduler createBatchScheduler(BatchScheduler.OverlapPolicy overlapPolicy) {
+        return new BatchScheduler(jobLauncher, testJob, jobExplorer, batchSchedulerLock, overlapPolicy, Duration.ofMinutes(10), false);
+    }
+
+    /**
+     * 첫 번째 실행이 끝나지 않은 상태에서 count번 더 스케줄을 실행한 뒤 첫 번째 실행을 끝낸다.
+     */
+    private void triggerWhileRunning(BatchScheduler batchScheduler, int count) throws InterruptedException {
+        batchScheduler.testScheduler();
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        for (int i = 0; i < count; i++) {
+            batchScheduler.testScheduler();
+        }
+        finish.countDown();
+    }
+}
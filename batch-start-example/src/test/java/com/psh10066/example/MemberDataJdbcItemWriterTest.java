@@ -0,0 +1,97 @@
+package com.psh10066.example;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.*;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+@SpringBatchTest
+@SpringBootTest(properties = "batch.writer.jdbc=true")
+class MemberDataJdbcItemWriterTest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    private Job testJob;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberDataRepository memberDataRepository;
+
+    @BeforeEach
+    void setUp() {
+        jobLauncherTestUtils.setJob(testJob);
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberDataRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void write() {
+        // given
+        MemberDataJdbcItemWriter writer = new MemberDataJdbcItemWriter(dataSource, 2);
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+        UUID id3 = UUID.randomUUID();
+
+        // when
+        writer.write(new Chunk<>(
+                new MemberData(id1, 1L, "Hello 홍길동1"),
+                new MemberData(id2, 2L, "Hello 홍길동2"),
+                new MemberData(id3, 3L, "Hello 홍길동3")
+        ));
+
+        // then
+        List<MemberData> result = memberDataRepository.findAll().stream()
+                .sorted(Comparator.comparing(MemberData::getMemberId))
+                .toList();
+        assertThat(result.size()).isEqualTo(3);
+        assertThat(result.get(0).getId()).isEqualTo(id1);
+        assertThat(result.get(0).getData()).isEqualTo("Hello 홍길동1");
+        assertThat(result.get(2).getId()).isEqualTo(id3);
+        assertThat(result.get(2).getData()).isEqualTo("Hello 홍길동3");
+    }
+
+    @Test
+    void testJob() throws Exception {
+        // given
+        memberRepository.save(new Member(1L, "홍길동"));
+
+        // when
+        LocalDateTime dateTime = LocalDateTime.of(2024, 9, 3, 12, 34, 56);
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLocalDateTime("dateTime", dateTime)
+                .toJobParameters();
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        // then
+        assertThat(jobExecution.getExitStatus()).isEqualTo(ExitStatus.COMPLETED);
+
+        List<MemberData> result = memberDataRepository.findAll();
+        assertThat(result.size()).isEqualTo(1);
+        assertThat(result.get(0).getMemberId()).isEqualTo(1);
+        assertThat(result.get(0).getData()).isEqualTo("Hello 홍길동 : 2024-09-03T12:34:56");
+    }
+}
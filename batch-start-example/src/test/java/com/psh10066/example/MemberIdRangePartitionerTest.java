@@ -0,0 +1,93 @@
+package com.psh10066.example;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class MemberIdRangePartitionerTest {
+
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final MemberIdRangePartitioner partitioner = new MemberIdRangePartitioner(memberRepository);
+
+    @Test
+    void partition() {
+        // given
+        given(memberRepository.findMinId()).willReturn(1L);
+        given(memberRepository.findMaxId()).willReturn(10L);
+
+        // when
+        Map<String, ExecutionContext> result = partitioner.partition(3);
+
+        // then
+        assertThat(result).hasSize(3);
+        assertRange(result.get("partition0"), 1L, 4L);
+        assertRange(result.get("partition1"), 5L, 8L);
+        assertRange(result.get("partition2"), 9L, 10L);
+    }
+
+    @Test
+    void partition_gridSizeLargerThanIds() {
+        // given
+        given(memberRepository.findMinId()).willReturn(1L);
+        given(memberRepository.findMaxId()).willReturn(2L);
+
+        // when
+        Map<String, ExecutionContext> result = partitioner.partition(4);
+
+        // then
+        assertThat(result).hasSize(2);
+        assertRange(result.get("partition0"), 1L, 1L);
+        assertRange(result.get("partition1"), 2L, 2L);
+    }
+
+    @Test
+    void partition_empty() {
+        // when
+        Map<String, ExecutionContext> result = partitioner.partition(4);
+
+        // then
+        assertThat(result).hasSize(1);
+        assertRange(result.get("partition0"), 1L, 0L);
+    }
+
+    @Test
+    void partition_bounded() {
+        // given
+        given(memberRepository.findMinId()).willReturn(1L);
+        given(memberRepository.findMaxId()).willReturn(10L);
+        MemberIdRangePartitioner boundedPartitioner = new MemberIdRangePartitioner(memberRepository, 7L, 8L);
+
+        // when
+        Map<String, ExecutionContext> result = boundedPartitioner.partition(2);
+
+        // then
+        assertThat(result).hasSize(2);
+        assertRange(result.get("partition0"), 7L, 7L);
+        assertRange(result.get("partition1"), 8L, 8L);
+    }
+
+    @Test
+    void partition_boundedEmpty() {
+        // given
+        given(memberRepository.findMinId()).willReturn(1L);
+        given(memberRepository.findMaxId()).willReturn(10L);
+        MemberIdRangePartitioner boundedPartitioner = new MemberIdRangePartitioner(memberRepository, 11L, 10L);
+
+        // when
+        Map<String, ExecutionContext> result = boundedPartitioner.partition(2);
+
+        // then
+        assertThat(result).hasSize(1);
+        assertRange(result.get("partition0"), 1L, 0L);
+    }
+
+    private void assertRange(ExecutionContext executionContext, long minId, long maxId) {
+        assertThat(executionContext.getLong("minId")).isEqualTo(minId);
+        assertThat(executionContext.getLong("maxId")).isEqualTo(maxId);
+    }
+}
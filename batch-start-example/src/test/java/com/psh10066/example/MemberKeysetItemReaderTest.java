@@ -0,0 +1,82 @@
+package com.psh10066.example;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class MemberKeysetItemReaderTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository.saveAll(List.of(
+                new Member(3L, "홍길동3"),
+                new Member(1L, "홍길동1"),
+                new Member(5L, "홍길동5"),
+                new Member(2L, "홍길동2"),
+                new Member(4L, "홍길동4")
+        ));
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void read() {
+        // given
+        MemberKeysetItemReader reader = new MemberKeysetItemReader(entityManagerFactory, "memberItemReader", 2);
+        ExecutionContext executionContext = new ExecutionContext();
+
+        // when
+        reader.open(executionContext);
+        List<Long> result = readAll(reader);
+        reader.update(executionContext);
+        reader.close();
+
+        // then
+        assertThat(result).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(executionContext.getLong("memberItemReader.lastId")).isEqualTo(5L);
+    }
+
+    @Test
+    void restart() {
+        // given
+        MemberKeysetItemReader reader = new MemberKeysetItemReader(entityManagerFactory, "memberItemReader", 2);
+        ExecutionContext executionContext = new ExecutionContext();
+        executionContext.putLong("memberItemReader.lastId", 2L);
+
+        // when
+        reader.open(executionContext);
+        List<Long> result = readAll(reader);
+        reader.close();
+
+        // then
+        assertThat(result).containsExactly(3L, 4L, 5L);
+    }
+
+    private List<Long> readAll(MemberKeysetItemReader reader) {
+        List<Long> result = new ArrayList<>();
+        Member member;
+        while ((member = reader.read()) != null) {
+            result.add(member.getId());
+        }
+        return result;
+    }
+}
@@ -1,5 +1,8 @@
 package com.psh10066.example;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.batch.core.*;
@@ -29,11 +32,20 @@ class TestJobConfigurationTest {
     @Autowired
     private MemberDataRepository memberDataRepository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @BeforeEach
     void setUp() {
         jobLauncherTestUtils.setJob(testJob);
     }
 
+    @AfterEach
+    void tearDown() {
+        memberDataRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
     @Test
     void testJob() throws Exception {
         // given
@@ -54,4 +66,203 @@ class TestJobConfigurationTest {
         assertThat(result.get(0).getMemberId()).isEqualTo(1);
         assertThat(result.get(0).getData()).isEqualTo("Hello 홍길동 : 2024-09-03T12:34:56");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testJob_partitioned() throws Exception {
+        // given
+        memberRepository.saveAll(List.of(
+                new Member(1L, "홍길동1"),
+                new Member(2L, "홍길동2"),
+                new Member(3L, "홍길동3"),
+                new Member(4L, "홍길동4"),
+                new Member(5L, "홍길동5")
+        ));
+
+        // when
+        LocalDateTime dateTime = LocalDateTime.of(2024, 9, 3, 12, 34, 56);
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLocalDateTime("dateTime", dateTime)
+                .addLong("gridSize", 2L)
+                .toJobParameters();
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        // then
+        assertThat(jobExecution.getExitStatus()).isEqualTo(ExitStatus.COMPLETED);
+        assertThat(jobExecution.getStepExecutions().stream().map(StepExecution::getStepName).sorted().toList())
+                .isEqualTo(List.of("testPartitionStep", "testStep:partition0", "testStep:partition1"));
+
+        List<MemberData> result = memberDataRepository.findAll();
+        assertThat(result.size()).isEqualTo(5);
+        assertThat(result.stream().map(MemberData::getMemberId).sorted().toList())
+                .isEqualTo(List.of(1L, 2L, 3L, 4L, 5L));
+    }
+
+    @Test
+    void testJob_adaptiveChunkSize() throws Exception {
+        // given
+        memberRepository.saveAll(List.of(
+                new Member(1L, "홍길동1"),
+                new Member(2L, "홍길동2"),
+                new Member(3L, "홍길동3")
+        ));
+
+        // when
+        LocalDateTime dateTime = LocalDateTime.of(2024, 9, 3, 12, 34, 56);
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLocalDateTime("dateTime", dateTime)
+                .addLong("chunkSize", 100L)
+                .addLong("pageSize", 2L)
+                .addLong("targetCommitMillis", 1000L)
+                .toJobParameters();
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        // then
+        assertThat(jobExecution.getExitStatus()).isEqualTo(ExitStatus.COMPLETED);
+        assertThat(memberDataRepository.count()).isEqualTo(3);
+
+        StepExecution stepExecution = jobExecution.getStepExecutions().iterator().next();
+        assertThat(stepExecution.getExecutionContext().containsKey(AdaptiveChunkCompletionPolicy.CHUNK_SIZE_KEY)).isTrue();
+    }
+
+    @Test
+    void testJob_metrics() throws Exception {
+        // given
+        memberRepository.saveAll(List.of(
+                new Member(1L, "홍길동1"),
+                new Member(2L, "홍길동2"),
+                new Member(3L, "홍길동3")
+        ));
+
+        // when
+        LocalDateTime dateTime = LocalDateTime.of(2024, 9, 4, 12, 34, 56);
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLocalDateTime("dateTime", dateTime)
+                .addLong("chunkSize", 2L)
+                .toJobParameters();
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        // then
+        assertThat(jobExecution.getExitStatus()).isEqualTo(ExitStatus.COMPLETED);
+
+        Timer readTimer = meterRegistry.get("batch.member.read")
+                .tags("job", "testJob", "step", "testStep", "partition", "none")
+                .timer();
+        assertThat(readTimer.count()).isGreaterThanOrEqualTo(3L);
+
+        Timer writeTimer = meterRegistry.get("batch.member.write")
+                .tags("job", "testJob", "step", "testStep", "partition", "none")
+                .timer();
+        assertThat(writeTimer.count()).isGreaterThanOrEqualTo(2L);
+
+        double items = meterRegistry.get("batch.member.items")
+                .tags("job", "testJob", "step", "testStep", "partition", "none")
+                .counter()
+                .count();
+        assertThat(items).isGreaterThanOrEqualTo(3.0);
+    }
+
+    @Test
+    void testJob_incremental() throws Exception {
+        // given
+        memberRepository.saveAll(List.of(
+                new Member(1L, "홍길동1"),
+                new Member(2L, "홍길동2"),
+                new Member(3L, "홍길동3")
+        ));
+        JobExecution firstJobExecution = jobLauncherTestUtils.launchJob(new JobParametersBuilder()
+                .addLocalDateTime("dateTime", LocalDateTime.of(2024, 9, 5, 12, 0, 0))
+                .addString("incremental", "true")
+                .addString("fullRebuild", "true")
+                .toJobParameters());
+        memberRepository.saveAll(List.of(
+                new Member(4L, "홍길동4"),
+                new Member(5L, "홍길동5")
+        ));
+
+        // when
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(new JobParametersBuilder()
+                .addLocalDateTime("dateTime", LocalDateTime.of(2024, 9, 5, 12, 0, 5))
+                .addString("incremental", "true")
+                .toJobParameters());
+
+        // then
+        assertThat(firstJobExecution.getExitStatus()).isEqualTo(ExitStatus.COMPLETED);
+        assertThat(jobExecution.getExitStatus()).isEqualTo(ExitStatus.COMPLETED);
+        assertThat(jobExecution.getExecutionContext().getLong(MemberHighWaterMarkListener.HIGH_WATER_MARK_KEY)).isEqualTo(5L);
+
+        List<MemberData> result = memberDataRepository.findAll();
+        assertThat(result.size()).isEqualTo(5);
+        assertThat(result.stream().map(MemberData::getMemberId).sorted().toList())
+                .isEqualTo(List.of(1L, 2L, 3L, 4L, 5L));
+    }
+
+    @Test
+    void testJob_incremental_restart() throws Exception {
+        // given
+        memberRepository.saveAll(List.of(
+                new Member(1L, "홍길동1"),
+                new Member(2L, "홍길동2"),
+                new Member(3L, "홍길동3"),
+                new Member(4L, "홍".repeat(250)) // MemberData.data 길이를 넘어 partition1이 실패한다.
+        ));
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLocalDateTime("dateTime", LocalDateTime.of(2024, 9, 7, 12, 0, 0))
+                .addLong("gridSize", 2L)
+                .addString("incremental", "true")
+                .addString("fullRebuild", "true")
+                .toJobParameters();
+        JobExecution failedJobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        memberRepository.saveAll(List.of(
+                new Member(4L, "홍길동4"),
+                new Member(5L, "홍길동5"),
+                new Member(6L, "홍길동6")
+        ));
+
+        // when
+        JobExecution restartedJobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+        JobExecution nextJobExecution = jobLauncherTestUtils.launchJob(new JobParametersBuilder()
+                .addLocalDateTime("dateTime", LocalDateTime.of(2024, 9, 7, 12, 0, 5))
+                .addLong("gridSize", 2L)
+                .addString("incremental", "true")
+                .toJobParameters());
+
+        // then
+        assertThat(failedJobExecution.getStatus()).isEqualTo(BatchStatus.FAILED);
+        assertThat(restartedJobExecution.getExitStatus()).isEqualTo(ExitStatus.COMPLETED);
+        assertThat(restartedJobExecution.getJobInstance().getInstanceId()).isEqualTo(failedJobExecution.getJobInstance().getInstanceId());
+        assertThat(restartedJobExecution.getExecutionContext().getLong(MemberHighWaterMarkListener.HIGH_WATER_MARK_KEY)).isEqualTo(4L);
+        assertThat(nextJobExecution.getExitStatus()).isEqualTo(ExitStatus.COMPLETED);
+        assertThat(nextJobExecution.getExecutionContext().getLong(MemberHighWaterMarkListener.HIGH_WATER_MARK_KEY)).isEqualTo(6L);
+
+        List<MemberData> result = memberDataRepository.findAll();
+        assertThat(result.size()).isEqualTo(6);
+        assertThat(result.stream().map(MemberData::getMemberId).sorted().toList())
+                .isEqualTo(List.of(1L, 2L, 3L, 4L, 5L, 6L));
+    }
+
+    @Test
+    void testJob_fullRebuild() throws Exception {
+        // given
+        memberRepository.saveAll(List.of(
+                new Member(1L, "홍길동1"),
+                new Member(2L, "홍길동2")
+        ));
+        jobLauncherTestUtils.launchJob(new JobParametersBuilder()
+                .addLocalDateTime("dateTime", LocalDateTime.of(2024, 9, 6, 12, 0, 0))
+                .addString("incremental", "true")
+                .addString("fullRebuild", "true")
+                .toJobParameters());
+
+        // when
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(new JobParametersBuilder()
+                .addLocalDateTime("dateTime", LocalDateTime.of(2024, 9, 6, 12, 0, 5))
+                .addString("incremental", "true")
+                .addString("fullRebuild", "true")
+                .toJobParameters());
+
+        // then
+        assertThat(jobExecution.getExitStatus()).isEqualTo(ExitStatus.COMPLETED);
+        assertThat(memberDataRepository.count()).isEqualTo(4);
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
@@ -23,10 +24,25 @@ class TestStepConfigurationTest {
         LocalDateTime dateTime = LocalDateTime.of(2024, 9, 3, 12, 34, 56);
 
         // when
-        MemberData result = testStepConfiguration.memberDataItemProcessor(dateTime).process(member);
+        MemberData result = testStepConfiguration.memberDataItemProcessor(dateTime, UUID::randomUUID).process(member);
 
         // then
         assertThat(result.getMemberId()).isEqualTo(1L);
         assertThat(result.getData()).isEqualTo("Hello 홍길동 : 2024-09-03T12:34:56");
     }
+
+    @Test
+    void memberDataItemProcessor_multipleItems() throws Exception {
+        // given
+        LocalDateTime dateTime = LocalDateTime.of(2024, 9, 3, 12, 34, 56);
+        MemberDataItemProcessor processor = testStepConfiguration.memberDataItemProcessor(dateTime, UUID::randomUUID);
+
+        // when
+        MemberData first = processor.process(new Member(1L, "홍길동"));
+        MemberData second = processor.process(new Member(2L, "Gildong Hong"));
+
+        // then
+        assertThat(first.getData()).isEqualTo("Hello 홍길동 : 2024-09-03T12:34:56");
+        assertThat(second.getData()).isEqualTo("Hello Gildong Hong : 2024-09-03T12:34:56");
+    }
 }
\ No newline at end of file
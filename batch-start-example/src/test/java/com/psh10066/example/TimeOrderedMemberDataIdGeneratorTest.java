@@ -0,0 +1,81 @@
+package com.psh10066.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeOrderedMemberDataIdGeneratorTest {
+
+    @Test
+    void generate() {
+        // given
+        long timestamp = 1725334496000L;
+        TimeOrderedMemberDataIdGenerator generator = new TimeOrderedMemberDataIdGenerator(() -> timestamp);
+
+        // when
+        UUID result = generator.generate();
+
+        // then
+        assertThat(result.version()).isEqualTo(7);
+        assertThat(result.variant()).isEqualTo(2);
+        assertThat(result.getMostSignificantBits() >>> 16).isEqualTo(timestamp);
+    }
+
+    @Test
+    void generate_sameMillisecond() {
+        // given
+        TimeOrderedMemberDataIdGenerator generator = new TimeOrderedMemberDataIdGenerator(() -> 1725334496000L);
+
+        // when
+        UUID first = generator.generate();
+        UUID second = generator.generate();
+
+        // then
+        assertThat(second.getMostSignificantBits()).isGreaterThan(first.getMostSignificantBits());
+    }
+
+    @Test
+    void generate_clockMovedBackwards() {
+        // given
+        long[] timestamp = {1725334496000L};
+        TimeOrderedMemberDataIdGenerator generator = new TimeOrderedMemberDataIdGenerator(() -> timestamp[0]);
+        UUID first = generator.generate();
+
+        // when
+        timestamp[0] -= 1000;
+        UUID second = generator.generate();
+
+        // then
+        assertThat(second.getMostSignificantBits()).isGreaterThan(first.getMostSignificantBits());
+    }
+
+    @Test
+    void generate_concurrently() throws InterruptedException {
+        // given
+        TimeOrderedMemberDataIdGenerator generator = new TimeOrderedMemberDataIdGenerator();
+        Set<UUID> result = ConcurrentHashMap.newKeySet();
+
+        // when
+        try (ExecutorService executorService = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                executorService.submit(() -> {
+                    for (int j = 0; j < 10_000; j++) {
+                        result.add(generator.generate());
+                    }
+                });
+            }
+            executorService.shutdown();
+            assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        // then
+        assertThat(result).hasSize(80_000);
+    }
+}
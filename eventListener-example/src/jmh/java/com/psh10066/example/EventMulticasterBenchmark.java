@@ -0,0 +1,80 @@
+package com.psh10066.example;
+
+import com.psh10066.example.multicaster.DispatchTableEventMulticaster;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.support.AbstractApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 1건 발행 시간 비교 (SimpleApplicationEventMulticaster vs DispatchTableEventMulticaster)
+ * <p>
+ * 다른 이벤트를 받는 listener가 otherListenerCount개 등록된 상태에서, listener가 1개인 이벤트를 발행한다.
+ * -prof gc로 실행하면 gc.alloc.rate.norm에서 발행 1건당 할당량을 비교할 수 있다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventMulticasterBenchmark {
+
+    @Param({"simple", "dispatchTable"})
+    public String multicaster;
+
+    @Param({"10", "100"})
+    public int otherListenerCount;
+
+    private AnnotationConfigApplicationContext context;
+    private final SampleEvent sampleEvent = new SampleEvent(1L);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext();
+        if (multicaster.equals("dispatchTable")) {
+            context.registerBean(AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME, DispatchTableEventMulticaster.class,
+                    () -> new DispatchTableEventMulticaster(context.getBeanFactory()));
+        }
+        for (int i = 0; i < otherListenerCount; i++) {
+            context.registerBean("otherListener" + i, OtherListener.class);
+        }
+        context.registerBean(SampleListener.class);
+        context.refresh();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void publishEvent() {
+        context.publishEvent(sampleEvent);
+    }
+
+    public record SampleEvent(long id) {
+    }
+
+    public record OtherEvent(long id) {
+    }
+
+    public static class SampleListener {
+
+        private long count;
+
+        @EventListener
+        public void on(SampleEvent event) {
+            count += event.id();
+        }
+    }
+
+    public static class OtherListener {
+
+        private long count;
+
+        @EventListener
+        public void on(OtherEvent event) {
+            count += event.id();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.psh10066.example;
+
+import com.psh10066.example.domain.UserRepository;
+import com.psh10066.example.event.OUTBOX_UserCreatedEvent;
+import com.psh10066.example.outbox.OutboxEventPublisher;
+import com.psh10066.example.outbox.OutboxMessageRepository;
+import com.psh10066.example.outbox.OutboxRelay;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * outbox에 쌓인 messageCount개의 이벤트를 모두 발행하는 데 걸리는 시간
+ * <p>
+ * 초당 발행 수는 messageCount / 실행 시간으로 계산한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OutboxRelayBenchmark {
+
+    @Param({"10000"})
+    public int messageCount;
+
+    @Param({"10", "100", "1000"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private OutboxRelay outboxRelay;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SpringApplication.run(
+                EventListenerExampleApplication.class,
+                "--spring.main.web-application-type=none",
+                "--spring.main.banner-mode=off",
+                "--spring.datasource.url=jdbc:h2:mem:" + UUID.randomUUID(),
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=warn",
+                "--logging.level.com.psh10066.example=warn",
+                "--logging.level.org.springframework.orm.jpa.JpaTransactionManager=warn",
+                "--event.outbox.relay.enabled=false",
+                "--event.outbox.relay.batch-size=" + batchSize
+        );
+        outboxRelay = context.getBean(OutboxRelay.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void publish() {
+        context.getBean(OutboxMessageRepository.class).deleteAllInBatch();
+        context.getBean(UserRepository.class).deleteAllInBatch();
+
+        OutboxEventPublisher outboxEventPublisher = context.getBean(OutboxEventPublisher.class);
+        context.getBean(TransactionTemplate.class).executeWithoutResult(status -> {
+            for (long i = 0; i < messageCount; i++) {
+                outboxEventPublisher.publish("User", i, new OUTBOX_UserCreatedEvent(i, "홍길동" + i));
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int relayAll() {
+        return outboxRelay.relayAll();
+    }
+}
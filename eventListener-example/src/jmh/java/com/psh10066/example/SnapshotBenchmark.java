@@ -0,0 +1,85 @@
+package com.psh10066.example;
+
+import com.psh10066.example.domain.UserRepository;
+import com.psh10066.example.service.SnapshotService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AFTER_COMMIT, REQUIRES_NEW listener에서 User를 수정하는 방식별 시간 비교
+ * <p>
+ * merge : 이벤트의 User 엔티티를 merge (이벤트마다 select + update)
+ * snapshot : 이벤트의 스냅샷 id로 update (이벤트마다 update)
+ * snapshotCoalesce : 스냅샷을 모아서 update ... where id in (트랜잭션마다 update 1번)
+ * <p>
+ * 반복마다 이벤트 1건당 실행한 SQL 수(service의 insert 포함)를 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SnapshotBenchmark {
+
+    @Param({"merge", "snapshot", "snapshotCoalesce"})
+    public String mode;
+
+    @Param({"1", "100"})
+    public int eventCount;
+
+    private ConfigurableApplicationContext context;
+    private SnapshotService snapshotService;
+    private Statistics statistics;
+    private long invocationCount;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SpringApplication.run(
+                EventListenerExampleApplication.class,
+                "--spring.main.web-application-type=none",
+                "--spring.main.banner-mode=off",
+                "--spring.datasource.url=jdbc:h2:mem:" + UUID.randomUUID(),
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.generate_statistics=true",
+                "--logging.level.root=warn",
+                "--logging.level.com.psh10066.example=warn",
+                "--logging.level.org.springframework.orm.jpa.JpaTransactionManager=warn",
+                "--event.outbox.relay.enabled=false"
+        );
+        snapshotService = context.getBean(SnapshotService.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Setup(Level.Iteration)
+    public void clear() {
+        context.getBean(UserRepository.class).deleteAllInBatch();
+        statistics.clear();
+        invocationCount = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void printStatementCount() {
+        System.out.printf("%n%s, eventCount=%d : 이벤트 1건당 SQL %.2f번%n",
+                mode, eventCount, (double) statistics.getPrepareStatementCount() / (invocationCount * eventCount));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void publish() {
+        switch (mode) {
+            case "merge" -> snapshotService.merge_AFTER_COMMIT(eventCount);
+            case "snapshot" -> snapshotService.snapshot_AFTER_COMMIT(eventCount);
+            default -> snapshotService.snapshotCoalesce_AFTER_COMMIT(eventCount);
+        }
+        invocationCount++;
+    }
+}
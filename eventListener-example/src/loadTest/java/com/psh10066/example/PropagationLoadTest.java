@@ -0,0 +1,168 @@
+package com.psh10066.example;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TransactionPropagationController의 방식별로 동시에 요청을 보내고 처리량, 응답 시간, 커넥션 풀 대기 시간을 출력한다.
+ * <p>
+ * ./gradlew loadTest -Pconcurrency=32 -Prequests=2000 -PappArgs="--event.listener-pool.enabled=true"
+ * <p>
+ * 세 번째 인자부터는 애플리케이션 실행 인자로 전달한다.
+ * <p>
+ * 애플리케이션은 임베디드 H2로 같은 JVM에서 실행하고, 요청은 가상 스레드에서 보낸다.
+ * 커넥션 풀 대기 시간은 HikariCP의 hikaricp.connections.acquire 지표(모든 풀의 합)의 방식별 증가량으로 계산한다.
+ */
+public class PropagationLoadTest {
+
+    private static final List<String> STRATEGIES = List.of(
+            "event-listener/no-transactional",
+            "event-listener/has-transactional",
+            "event-listener/new-transactional",
+            "transactional-event-listener/before-commit",
+            "transactional-event-listener/before-commit/requires-new",
+            "transactional-event-listener/after-completion",
+            "transactional-event-listener/after-completion/requires-new"
+    );
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    public static void main(String[] args) {
+        int concurrency = args.length > 0 ? Integer.parseInt(args[0]) : 32;
+        int requests = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        int warmupRequests = Math.max(requests / 10, concurrency);
+
+        // 애플리케이션의 콘솔 출력은 버리고 결과만 출력한다.
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        List<String> appArgs = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--spring.datasource.url=jdbc:h2:mem:" + UUID.randomUUID(),
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=warn",
+                "--logging.level.com.psh10066.example=warn",
+                "--logging.level.org.springframework.orm.jpa.JpaTransactionManager=warn",
+                "--event.outbox.relay.enabled=false"
+        ));
+        appArgs.addAll(Arrays.asList(args).subList(Math.min(args.length, 2), args.length));
+
+        try (ConfigurableApplicationContext context = SpringApplication.run(
+                EventListenerExampleApplication.class,
+                appArgs.toArray(String[]::new)
+        ); HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build()) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/transaction-propagation/";
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+
+            for (String strategy : STRATEGIES) {
+                run(httpClient, URI.create(baseUrl + strategy), concurrency, warmupRequests);
+            }
+
+            out.printf("concurrency=%d, requests=%d%n", concurrency, requests);
+            out.printf("%-58s %10s %9s %9s %7s %12s %14s%n",
+                    "strategy", "req/s", "p50(ms)", "p99(ms)", "errors", "acquire/req", "acquire(ms)");
+            for (String strategy : STRATEGIES) {
+                Collection<Timer> acquireTimers = meterRegistry.get("hikaricp.connections.acquire").timers();
+                long acquireCount = acquireTimers.stream().mapToLong(Timer::count).sum();
+                double acquireTime = totalTime(acquireTimers);
+
+                Result result = run(httpClient, URI.create(baseUrl + strategy), concurrency, requests);
+
+                long acquired = acquireTimers.stream().mapToLong(Timer::count).sum() - acquireCount;
+                out.printf("%-58s %10.1f %9.2f %9.2f %7d %12.2f %14.3f%n",
+                        strategy,
+                        result.throughput(),
+                        result.percentile(0.5),
+                        result.percentile(0.99),
+                        result.errors(),
+                        (double) acquired / requests,
+                        acquired == 0 ? 0 : (totalTime(acquireTimers) - acquireTime) / acquired
+                );
+            }
+        } finally {
+            System.setOut(out);
+        }
+    }
+
+    private static double totalTime(Collection<Timer> timers) {
+        return timers.stream().mapToDouble(timer -> timer.totalTime(TimeUnit.MILLISECONDS)).sum();
+    }
+
+    private static Result run(HttpClient httpClient, URI uri, int concurrency, int requests) {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .timeout(REQUEST_TIMEOUT)
+                .build();
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                executor.submit(() -> {
+                    int index;
+                    while ((index = next.getAndIncrement()) < requests) {
+                        long begin = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (IOException e) {
+                            errors.incrementAndGet();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        latencies[index] = System.nanoTime() - begin;
+                    }
+                });
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        return new Result(latencies, elapsed, errors.get());
+    }
+
+    /**
+     * @param latencies 정렬된 요청별 응답 시간 (ns)
+     * @param elapsed   전체 실행 시간 (ns)
+     */
+    private record Result(long[] latencies, long elapsed, int errors) {
+
+        double throughput() {
+            return latencies.length / (elapsed / 1_000_000_000.0);
+        }
+
+        double percentile(double percentile) {
+            int index = (int) Math.ceil(percentile * latencies.length) - 1;
+            return latencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.psh10066.example.async;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * event.async.enabled=true 이면 listener를 호출한 스레드가 아닌 별도 스레드에서 실행한다.
+ * <p>
+ * 트랜잭션 커밋 이후에 실행되는 AFTER_COMMIT, AFTER_ROLLBACK, AFTER_COMPLETION listener에만 사용한다.
+ * BEFORE_COMMIT listener는 커밋 전에 끝나야 하므로 사용하면 안 된다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AsyncListener {
+
+    /**
+     * listener별 최대 동시 실행 수 (0 이하이면 제한 없음)
+     */
+    int maxConcurrency() default 0;
+}
@@ -0,0 +1,59 @@
+package com.psh10066.example.async;
+
+import com.psh10066.example.instrument.ListenerNames;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link AsyncListener}가 붙은 listener를 {@link AsyncListenerExecutor}에서 실행한다.
+ * <p>
+ * {@code @Transactional}보다 먼저 적용되어야 listener의 트랜잭션이 실행 스레드에서 시작되므로 가장 높은 우선순위로 적용한다.
+ * {@link #inline(Callable)} 안에서 호출하면 호출한 스레드에서 바로 실행한다.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class AsyncListenerAspect {
+
+    /**
+     * inline 중에는 호출한 스레드에서 실행하고 예외를 그대로 던진다.
+     */
+    private static final ThreadLocal<Boolean> INLINE = ThreadLocal.withInitial(() -> false);
+
+    private final AsyncListenerExecutor asyncListenerExecutor;
+    private final Map<Method, String> listenerNames = new ConcurrentHashMap<>();
+
+    /**
+     * 실행 결과와 예외를 호출한 쪽에서 확인해야 하는 경우(ex. dead letter 재실행) 사용한다.
+     */
+    public static <T> T inline(Callable<T> callable) throws Exception {
+        INLINE.set(true);
+        try {
+            return callable.call();
+        } finally {
+            INLINE.remove();
+        }
+    }
+
+    @Around("@annotation(asyncListener)")
+    public Object dispatch(ProceedingJoinPoint joinPoint, AsyncListener asyncListener) throws Throwable {
+        if (INLINE.get()) {
+            return joinPoint.proceed();
+        }
+
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String listener = listenerNames.computeIfAbsent(method, ListenerNames::of);
+        asyncListenerExecutor.execute(listener, asyncListener.maxConcurrency(), joinPoint::proceed);
+        return null;
+    }
+}
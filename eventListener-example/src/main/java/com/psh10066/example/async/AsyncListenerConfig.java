@@ -0,0 +1,23 @@
+package com.psh10066.example.async;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(AsyncListenerProperties.class)
+@ConditionalOnProperty(name = "event.async.enabled", havingValue = "true")
+public class AsyncListenerConfig {
+
+    @Bean
+    public AsyncListenerExecutor asyncListenerExecutor(AsyncListenerProperties asyncListenerProperties, MeterRegistry meterRegistry) {
+        return new AsyncListenerExecutor(asyncListenerProperties, meterRegistry);
+    }
+
+    @Bean
+    public AsyncListenerAspect asyncListenerAspect(AsyncListenerExecutor asyncListenerExecutor) {
+        return new AsyncListenerAspect(asyncListenerExecutor);
+    }
+}
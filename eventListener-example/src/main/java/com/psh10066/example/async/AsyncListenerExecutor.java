@@ -0,0 +1,219 @@
+package com.psh10066.example.async;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * listener를 별도 스레드에서 실행하는 executor
+ * <p>
+ * 실행 중이거나 대기 중인 listener 수는 poolSize + queueCapacity를 넘지 않으며, 넘으면 backpressure에 따라 처리한다.
+ * PLATFORM은 poolSize개의 고정 스레드에서, VIRTUAL은 listener마다 가상 스레드를 만들어 최대 poolSize개까지 동시에 실행한다.
+ * <p>
+ * listener별 최대 동시 실행 수에 도달한 listener는 스레드를 차지하지 않고 listener별 대기열에서 기다리므로 다른 listener의 실행을 막지 않는다.
+ */
+@Slf4j
+public class AsyncListenerExecutor implements DisposableBean {
+
+    @FunctionalInterface
+    public interface Task {
+        void run() throws Throwable;
+    }
+
+    /**
+     * @param permits 최대 동시 실행 수만큼의 허가 (제한이 없으면 null)
+     * @param pending 허가를 얻지 못해 실행을 기다리는 작업
+     */
+    private record ListenerState(Semaphore permits, Queue<Runnable> pending, Timer timer, Counter errorCounter) {
+    }
+
+    private final AsyncListenerProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executorService;
+    private final Semaphore capacity;
+    private final Semaphore workers;
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final Map<String, ListenerState> listenerStates = new ConcurrentHashMap<>();
+    private final Timer queueWaitTimer;
+    private final Counter droppedCounter;
+    private final Counter callerRunsCounter;
+
+    public AsyncListenerExecutor(AsyncListenerProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.capacity = new Semaphore(properties.poolSize() + properties.queueCapacity());
+        if (properties.executorType() == AsyncListenerProperties.ExecutorType.VIRTUAL) {
+            this.executorService = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("async-listener-", 0).factory());
+            this.workers = new Semaphore(properties.poolSize());
+        } else {
+            this.executorService = Executors.newFixedThreadPool(properties.poolSize(), Thread.ofPlatform().name("async-listener-", 0).factory());
+            this.workers = null;
+        }
+
+        Gauge.builder("event.async.queue.depth", queueDepth, AtomicInteger::get)
+                .description("실행을 기다리는 listener 수")
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("event.async.queue.wait")
+                .description("listener가 실행되기까지 기다린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("event.async.dropped")
+                .description("자리가 없어 버려진 listener 수")
+                .register(meterRegistry);
+        this.callerRunsCounter = Counter.builder("event.async.caller.runs")
+                .description("자리가 없어 호출한 스레드에서 실행된 listener 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param listener       지표의 listener 태그로 사용할 이름
+     * @param maxConcurrency listener별 최대 동시 실행 수 (0 이하이면 제한 없음)
+     */
+    public void execute(String listener, int maxConcurrency, Task task) {
+        ListenerState listenerState = listenerStates.computeIfAbsent(listener, key -> createListenerState(key, maxConcurrency));
+
+        if (!capacity.tryAcquire()) {
+            switch (properties.backpressure()) {
+                case BLOCK -> capacity.acquireUninterruptibly();
+                case DROP -> {
+                    droppedCounter.increment();
+                    log.warn("자리가 없어 listener를 실행하지 않음 : {}", listener);
+                    return;
+                }
+                case CALLER_RUNS -> {
+                    callerRunsCounter.increment();
+                    acquire(listenerState.permits());
+                    try {
+                        run(listener, listenerState, task);
+                    } finally {
+                        releasePermit(listenerState);
+                    }
+                    return;
+                }
+            }
+        }
+
+        queueDepth.incrementAndGet();
+        long submittedTime = System.nanoTime();
+        Runnable work = () -> {
+            try {
+                acquire(workers);
+                try {
+                    queueDepth.decrementAndGet();
+                    queueWaitTimer.record(System.nanoTime() - submittedTime, TimeUnit.NANOSECONDS);
+                    run(listener, listenerState, task);
+                } finally {
+                    release(workers);
+                }
+            } finally {
+                capacity.release();
+            }
+        };
+
+        if (listenerState.permits() == null) {
+            submit(work);
+            return;
+        }
+        listenerState.pending().add(work);
+        dispatchPending(listenerState);
+    }
+
+    /**
+     * 허가를 얻은 만큼 listener별 대기열의 작업을 실행한다.
+     * <p>
+     * 허가를 얻은 뒤에 스레드에 넘기므로, 허가를 기다리는 작업이 스레드를 차지하지 않는다.
+     */
+    private void dispatchPending(ListenerState listenerState) {
+        while (!listenerState.pending().isEmpty() && listenerState.permits().tryAcquire()) {
+            Runnable work = listenerState.pending().poll();
+            if (work == null) {
+                listenerState.permits().release();
+                continue;
+            }
+            submit(() -> {
+                try {
+                    work.run();
+                } finally {
+                    releasePermit(listenerState);
+                }
+            });
+        }
+    }
+
+    private void releasePermit(ListenerState listenerState) {
+        if (listenerState.permits() != null) {
+            listenerState.permits().release();
+            dispatchPending(listenerState);
+        }
+    }
+
+    private void submit(Runnable work) {
+        try {
+            executorService.execute(work);
+        } catch (RejectedExecutionException e) {
+            // 종료 중에는 호출한 스레드에서 실행한다.
+            work.run();
+        }
+    }
+
+    private ListenerState createListenerState(String listener, int maxConcurrency) {
+        return new ListenerState(
+                maxConcurrency > 0 ? new Semaphore(maxConcurrency) : null,
+                new ConcurrentLinkedQueue<>(),
+                Timer.builder("event.async.handler")
+                        .description("listener 실행 시간")
+                        .tag("listener", listener)
+                        .publishPercentiles(0.5, 0.99)
+                        .register(meterRegistry),
+                Counter.builder("event.async.handler.errors")
+                        .description("listener에서 발생한 예외 수")
+                        .tag("listener", listener)
+                        .register(meterRegistry)
+        );
+    }
+
+    private void run(String listener, ListenerState listenerState, Task task) {
+        long startTime = System.nanoTime();
+        try {
+            task.run();
+        } catch (Throwable e) {
+            listenerState.errorCounter().increment();
+            log.error("listener 실행 중 예외 발생 : {}", listener, e);
+        } finally {
+            listenerState.timer().record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static void acquire(Semaphore semaphore) {
+        if (semaphore != null) {
+            semaphore.acquireUninterruptibly();
+        }
+    }
+
+    private static void release(Semaphore semaphore) {
+        if (semaphore != null) {
+            semaphore.release();
+        }
+    }
+
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executorService.shutdown();
+        if (!executorService.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("종료되지 않은 listener가 있음");
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.psh10066.example.async;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param executorType  listener를 실행할 스레드 종류
+ * @param poolSize      동시에 실행할 최대 listener 수
+ * @param queueCapacity 실행을 기다릴 수 있는 최대 listener 수
+ * @param backpressure  실행 중인 listener와 대기 중인 listener가 가득 찼을 때의 처리 방식
+ */
+@ConfigurationProperties("event.async")
+public record AsyncListenerProperties(
+        @DefaultValue("virtual") ExecutorType executorType,
+        @DefaultValue("8") int poolSize,
+        @DefaultValue("1000") int queueCapacity,
+        @DefaultValue("block") Backpressure backpressure
+) {
+
+    public enum ExecutorType {
+        VIRTUAL,
+        PLATFORM
+    }
+
+    public enum Backpressure {
+        /**
+         * 자리가 날 때까지 호출한 스레드가 기다린다.
+         */
+        BLOCK,
+        /**
+         * 실행하지 않고 버린다.
+         */
+        DROP,
+        /**
+         * 호출한 스레드에서 바로 실행한다.
+         */
+        CALLER_RUNS
+    }
+}
@@ -0,0 +1,66 @@
+package com.psh10066.example.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Caffeine JCache를 Hibernate 2차 캐시, 쿼리 캐시로 사용한다.
+ * <p>
+ * 테스트처럼 한 JVM에 여러 ApplicationContext가 뜨면 CacheManager를 공유하지 않도록 context마다 새 URI로 만든다.
+ */
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+public class SecondLevelCacheConfig {
+
+    public static final String USER_REGION = "users";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(SecondLevelCacheProperties secondLevelCacheProperties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("second-level-cache-" + UUID.randomUUID()), getClass().getClassLoader());
+        cacheManager.createCache(USER_REGION, configuration(secondLevelCacheProperties.user()));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, configuration(secondLevelCacheProperties.query()));
+        // 쿼리 결과가 최신인지 판단하는 테이블별 수정 시간이므로 제거하지 않는다.
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, configuration());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> configuration(SecondLevelCacheProperties.Region region) {
+        CaffeineConfiguration<Object, Object> configuration = configuration();
+        configuration.setMaximumSize(OptionalLong.of(region.maximumSize()));
+        configuration.setExpireAfterWrite(OptionalLong.of(region.expireAfterWrite().toNanos()));
+        return configuration;
+    }
+
+    /**
+     * Hibernate가 캐시 항목을 복사해서 저장하므로 직렬화로 한 번 더 복사하지 않는다.
+     */
+    private static CaffeineConfiguration<Object, Object> configuration() {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        return configuration;
+    }
+}
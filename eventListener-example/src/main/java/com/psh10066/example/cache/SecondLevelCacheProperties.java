@@ -0,0 +1,27 @@
+package com.psh10066.example.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param user  User 엔티티 캐시 (users region)
+ * @param query 쿼리 결과 캐시 (default-query-results-region)
+ */
+@ConfigurationProperties("event.cache")
+public record SecondLevelCacheProperties(
+        @DefaultValue Region user,
+        @DefaultValue Region query
+) {
+
+    /**
+     * @param maximumSize      최대 저장 수, 넘으면 오래 사용하지 않은 것부터 제거
+     * @param expireAfterWrite 저장한 뒤 이 시간이 지나면 제거
+     */
+    public record Region(
+            @DefaultValue("10000") long maximumSize,
+            @DefaultValue("10m") Duration expireAfterWrite
+    ) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.psh10066.example.coalesce;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.ResolvableTypeProvider;
+
+import java.util.List;
+
+/**
+ * 한 트랜잭션에서 발행된 같은 타입의 이벤트 목록
+ * <p>
+ * {@code @EventListener}의 파라미터를 {@code CoalescedEvents<이벤트 타입>}으로 선언하면 해당 타입의 목록만 받는다.
+ */
+public record CoalescedEvents<T>(Class<T> eventType, List<T> events) implements ResolvableTypeProvider {
+
+    @Override
+    public ResolvableType getResolvableType() {
+        return ResolvableType.forClassWithGenerics(CoalescedEvents.class, eventType);
+    }
+}
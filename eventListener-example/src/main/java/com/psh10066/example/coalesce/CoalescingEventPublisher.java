@@ -0,0 +1,98 @@
+package com.psh10066.example.coalesce;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+/**
+ * 트랜잭션 동안 발행된 이벤트를 모아 BEFORE_COMMIT 또는 AFTER_COMMIT에 타입별로 한 번씩 {@link CoalescedEvents}로 발행한다.
+ * <p>
+ * 이벤트마다 listener를 호출하는 대신 한 번에 처리하므로 listener에서 saveAll 등으로 한 번에 저장할 수 있다.
+ * 트랜잭션이 없으면 바로 발행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CoalescingEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public void publish(Object event, TransactionPhase phase) {
+        if (phase != TransactionPhase.BEFORE_COMMIT && phase != TransactionPhase.AFTER_COMMIT) {
+            throw new IllegalArgumentException("BEFORE_COMMIT, AFTER_COMMIT만 지원 : " + phase);
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applicationEventPublisher.publishEvent(coalesce(event.getClass(), List.of(event)));
+            return;
+        }
+
+        EventBuffer eventBuffer = (EventBuffer) TransactionSynchronizationManager.getResource(this);
+        if (eventBuffer == null) {
+            eventBuffer = new EventBuffer();
+            TransactionSynchronizationManager.bindResource(this, eventBuffer);
+            TransactionSynchronizationManager.registerSynchronization(eventBuffer);
+        }
+        eventBuffer.add(phase, event);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> CoalescedEvents<T> coalesce(Class<T> eventType, List<?> events) {
+        return new CoalescedEvents<>(eventType, (List<T>) events);
+    }
+
+    /**
+     * 트랜잭션마다 하나씩 생성되며, REQUIRES_NEW 등으로 트랜잭션이 일시 중단되면 함께 해제된다.
+     */
+    private class EventBuffer implements TransactionSynchronization {
+
+        private final Map<Class<?>, List<Object>> beforeCommitEvents = new LinkedHashMap<>();
+        private final Map<Class<?>, List<Object>> afterCommitEvents = new LinkedHashMap<>();
+
+        void add(TransactionPhase phase, Object event) {
+            Map<Class<?>, List<Object>> events = phase == TransactionPhase.BEFORE_COMMIT ? beforeCommitEvents : afterCommitEvents;
+            events.computeIfAbsent(event.getClass(), key -> new ArrayList<>()).add(event);
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(CoalescingEventPublisher.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(CoalescingEventPublisher.this, this);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            publishAll(beforeCommitEvents);
+        }
+
+        @Override
+        public void afterCommit() {
+            publishAll(afterCommitEvents);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(CoalescingEventPublisher.this);
+        }
+
+        /**
+         * listener에서 같은 phase의 이벤트를 다시 발행하면 이어서 발행한다.
+         */
+        private void publishAll(Map<Class<?>, List<Object>> events) {
+            while (!events.isEmpty()) {
+                Iterator<Map.Entry<Class<?>, List<Object>>> iterator = events.entrySet().iterator();
+                Map.Entry<Class<?>, List<Object>> entry = iterator.next();
+                iterator.remove();
+                applicationEventPublisher.publishEvent(coalesce(entry.getKey(), List.copyOf(entry.getValue())));
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.psh10066.example.controller;
+
+import com.psh10066.example.resilient.DeadLetterEvent;
+import com.psh10066.example.resilient.DeadLetterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/dead-letters")
+public class DeadLetterController {
+
+    private final DeadLetterService deadLetterService;
+
+    public record DeadLetterResponse(
+            Long id,
+            String listener,
+            String eventType,
+            String payload,
+            int attempts,
+            String lastError,
+            LocalDateTime createdAt,
+            LocalDateTime replayedAt
+    ) {
+        static DeadLetterResponse from(DeadLetterEvent deadLetterEvent) {
+            return new DeadLetterResponse(
+                    deadLetterEvent.getId(),
+                    deadLetterEvent.getListener(),
+                    deadLetterEvent.getEventType(),
+                    deadLetterEvent.getPayload(),
+                    deadLetterEvent.getAttempts(),
+                    deadLetterEvent.getLastError(),
+                    deadLetterEvent.getCreatedAt(),
+                    deadLetterEvent.getReplayedAt()
+            );
+        }
+    }
+
+    @GetMapping
+    public List<DeadLetterResponse> findAll() {
+        return deadLetterService.findAll().stream()
+                .map(DeadLetterResponse::from)
+                .toList();
+    }
+
+    @PostMapping("/{id}/replay")
+    public DeadLetterResponse replay(@PathVariable Long id) {
+        try {
+            return DeadLetterResponse.from(deadLetterService.replay(id));
+        } catch (NoSuchElementException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+    }
+}
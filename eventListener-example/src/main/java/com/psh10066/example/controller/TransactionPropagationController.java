@@ -0,0 +1,53 @@
+package com.psh10066.example.controller;
+
+import com.psh10066.example.service.TransactionPropagationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * TransactionPropagationService의 방식별 부하 테스트용 API
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/transaction-propagation")
+public class TransactionPropagationController {
+
+    private final TransactionPropagationService transactionPropagationService;
+
+    @PostMapping("/event-listener/no-transactional")
+    public void eventListener_noTransactional() {
+        transactionPropagationService.eventListener_noTransactional();
+    }
+
+    @PostMapping("/event-listener/has-transactional")
+    public void eventListener_hasTransactional() {
+        transactionPropagationService.eventListener_hasTransactional();
+    }
+
+    @PostMapping("/event-listener/new-transactional")
+    public void eventListener_newTransactional() {
+        transactionPropagationService.eventListener_newTransactional();
+    }
+
+    @PostMapping("/transactional-event-listener/before-commit")
+    public void transactionalEventListener_BEFORE_COMMIT() {
+        transactionPropagationService.transactionalEventListener_BEFORE_COMMIT();
+    }
+
+    @PostMapping("/transactional-event-listener/before-commit/requires-new")
+    public void newTransactionalEventListener_BEFORE_COMMIT() {
+        transactionPropagationService.newTransactionalEventListener_BEFORE_COMMIT();
+    }
+
+    @PostMapping("/transactional-event-listener/after-completion")
+    public void transactionalEventListener_AFTER_COMMIT() {
+        transactionPropagationService.transactionalEventListener_AFTER_COMMIT();
+    }
+
+    @PostMapping("/transactional-event-listener/after-completion/requires-new")
+    public void newTransactionalEventListener_AFTER_COMMIT() {
+        transactionPropagationService.newTransactionalEventListener_AFTER_COMMIT();
+    }
+}
@@ -1,11 +1,16 @@
 package com.psh10066.example.domain;
 
+import com.psh10066.example.cache.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.USER_REGION)
 @Getter
 @NoArgsConstructor
 public class User {
@@ -1,6 +1,29 @@
 package com.psh10066.example.domain;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    /**
+     * 결과를 쿼리 캐시에 저장하며, users 테이블이 수정되면 캐시된 결과는 사용하지 않는다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<User> findByName(String name);
+
+    /**
+     * JPQL bulk update는 어떤 row가 수정됐는지 알 수 없으므로 실행할 때 users 2차 캐시 region 전체와 users 테이블의 쿼리 캐시를 비운다.
+     * 자주 호출하면 다른 User의 캐시도 함께 사라지므로, 캐시를 유지해야 하는 수정은 조회 후 dirty checking으로 수정한다.
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.name = :name WHERE u.id IN :ids")
+    int updateNameByIdIn(@Param("name") String name, @Param("ids") Collection<Long> ids);
 }
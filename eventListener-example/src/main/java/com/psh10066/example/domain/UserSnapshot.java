@@ -0,0 +1,13 @@
+package com.psh10066.example.domain;
+
+/**
+ * 이벤트에 담을 User의 불변 스냅샷
+ * <p>
+ * 다른 영속성 컨텍스트에서 사용할 listener는 User 엔티티 대신 id와 필요한 값만 받는다.
+ */
+public record UserSnapshot(Long id, String name) {
+
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(user.getId(), user.getName());
+    }
+}
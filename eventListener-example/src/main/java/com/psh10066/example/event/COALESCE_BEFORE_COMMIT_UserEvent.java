@@ -0,0 +1,4 @@
+package com.psh10066.example.event;
+
+public record COALESCE_BEFORE_COMMIT_UserEvent(Long userId) {
+}
@@ -0,0 +1,6 @@
+package com.psh10066.example.event;
+
+import com.psh10066.example.domain.User;
+
+public record MERGE_AFTER_COMMIT_UserEvent(User user) {
+}
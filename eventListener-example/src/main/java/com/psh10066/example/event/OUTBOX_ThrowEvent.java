@@ -0,0 +1,4 @@
+package com.psh10066.example.event;
+
+public record OUTBOX_ThrowEvent(Long userId) {
+}
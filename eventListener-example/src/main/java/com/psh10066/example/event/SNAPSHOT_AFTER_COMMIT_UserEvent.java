@@ -0,0 +1,6 @@
+package com.psh10066.example.event;
+
+import com.psh10066.example.domain.UserSnapshot;
+
+public record SNAPSHOT_AFTER_COMMIT_UserEvent(UserSnapshot user) {
+}
@@ -0,0 +1,65 @@
+package com.psh10066.example.instrument;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /actuator/eventlisteners : listener별 실행 횟수, 실행 시간, 예외 수
+ */
+@Component
+@Endpoint(id = "eventlisteners")
+@RequiredArgsConstructor
+public class EventListenersEndpoint {
+
+    private final MeterRegistry meterRegistry;
+
+    public record ListenerStats(
+            String listener,
+            String event,
+            String phase,
+            String propagation,
+            long count,
+            double totalMillis,
+            double maxMillis,
+            double errors
+    ) {
+    }
+
+    @ReadOperation
+    public List<ListenerStats> listeners() {
+        return meterRegistry.find(ListenerMetrics.TIMER_NAME).timers().stream()
+                .map(this::toStats)
+                .sorted(Comparator.comparingDouble(ListenerStats::totalMillis).reversed())
+                .toList();
+    }
+
+    private ListenerStats toStats(Timer timer) {
+        String listener = timer.getId().getTag("listener");
+        String event = timer.getId().getTag("event");
+        double errors = meterRegistry.find(ListenerMetrics.ERROR_COUNTER_NAME)
+                .tag("listener", listener)
+                .tag("event", event)
+                .counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+        return new ListenerStats(
+                listener,
+                event,
+                timer.getId().getTag("phase"),
+                timer.getId().getTag("propagation"),
+                timer.count(),
+                timer.totalTime(TimeUnit.MILLISECONDS),
+                timer.max(TimeUnit.MILLISECONDS),
+                errors
+        );
+    }
+}
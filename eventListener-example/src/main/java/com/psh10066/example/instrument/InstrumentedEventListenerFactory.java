@@ -0,0 +1,124 @@
+package com.psh10066.example.instrument;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ApplicationListenerMethodAdapter;
+import org.springframework.context.event.EventListenerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalApplicationListener;
+
+import java.lang.reflect.Method;
+
+/**
+ * 모든 {@code @EventListener}, {@code @TransactionalEventListener} 메소드의 실행 시간과 예외 수를 기록하는 listener를 만든다.
+ * <p>
+ * 기본 factory보다 먼저 적용되지만, listener는 원래 해당 메소드를 처리할 factory가 만든다.
+ * 따라서 factory의 검증(ex. {@code @TransactionalEventListener}에 REQUIRES_NEW가 아닌 {@code @Transactional} 금지)과
+ * 트랜잭션 phase에 따른 실행 시점은 기존과 같다.
+ * <ul>
+ * <li>{@link TransactionalApplicationListener} : {@link TransactionalApplicationListener.SynchronizationCallback}으로 기록
+ * (트랜잭션 없이 fallbackExecution으로 실행되면 callback이 호출되지 않아 기록되지 않는다.)</li>
+ * <li>{@link ApplicationListenerMethodAdapter} : 실제로 메소드를 실행하는 processEvent만 감싼 하위 클래스로 기록</li>
+ * </ul>
+ */
+@Component
+public class InstrumentedEventListenerFactory implements EventListenerFactory, Ordered {
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final ObjectProvider<EventListenerFactory> eventListenerFactories;
+
+    public InstrumentedEventListenerFactory(
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            ObjectProvider<EventListenerFactory> eventListenerFactories
+    ) {
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.eventListenerFactories = eventListenerFactories;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public boolean supportsMethod(Method method) {
+        return delegate(method) != null;
+    }
+
+    @Override
+    public ApplicationListener<?> createApplicationListener(String beanName, Class<?> type, Method method) {
+        ApplicationListener<?> applicationListener = delegate(method).createApplicationListener(beanName, type, method);
+
+        if (applicationListener instanceof TransactionalApplicationListener<?> transactionalApplicationListener) {
+            ListenerMetrics listenerMetrics = new ListenerMetrics(meterRegistryProvider, method, transactionalApplicationListener.getTransactionPhase().name());
+            transactionalApplicationListener.addCallback(new MetricsCallback(listenerMetrics));
+            return applicationListener;
+        }
+        // DefaultEventListenerFactory는 검증 없이 ApplicationListenerMethodAdapter를 만들기만 하므로 같은 인자로 하위 클래스를 만든다.
+        // (감싸면 EventListenerMethodProcessor가 ApplicationListenerMethodAdapter를 초기화하지 않는다.)
+        if (applicationListener.getClass() == ApplicationListenerMethodAdapter.class) {
+            return new InstrumentedApplicationListener(beanName, type, method, new ListenerMetrics(meterRegistryProvider, method, "NONE"));
+        }
+        return applicationListener;
+    }
+
+    /**
+     * 이 factory가 없었다면 메소드를 처리했을 factory
+     */
+    private EventListenerFactory delegate(Method method) {
+        return eventListenerFactories.orderedStream()
+                .filter(factory -> factory != this)
+                .filter(factory -> factory.supportsMethod(method))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static class MetricsCallback implements TransactionalApplicationListener.SynchronizationCallback {
+
+        private final ListenerMetrics listenerMetrics;
+        private final ThreadLocal<Long> startTime = new ThreadLocal<>();
+
+        MetricsCallback(ListenerMetrics listenerMetrics) {
+            this.listenerMetrics = listenerMetrics;
+        }
+
+        @Override
+        public void preProcessEvent(ApplicationEvent event) {
+            startTime.set(listenerMetrics.start());
+        }
+
+        @Override
+        public void postProcessEvent(ApplicationEvent event, Throwable ex) {
+            Long start = startTime.get();
+            startTime.remove();
+            if (start != null) {
+                listenerMetrics.record(event, start, ex);
+            }
+        }
+    }
+
+    private static class InstrumentedApplicationListener extends ApplicationListenerMethodAdapter {
+
+        private final ListenerMetrics listenerMetrics;
+
+        InstrumentedApplicationListener(String beanName, Class<?> targetClass, Method method, ListenerMetrics listenerMetrics) {
+            super(beanName, targetClass, method);
+            this.listenerMetrics = listenerMetrics;
+        }
+
+        @Override
+        public void processEvent(ApplicationEvent event) {
+            long startTime = listenerMetrics.start();
+            try {
+                super.processEvent(event);
+            } catch (RuntimeException | Error e) {
+                listenerMetrics.record(event, startTime, e);
+                throw e;
+            }
+            listenerMetrics.record(event, startTime, null);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.psh10066.example.instrument;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * listener 메소드 하나의 실행 시간과 예외 수를 기록한다.
+ */
+class ListenerMetrics {
+
+    static final String TIMER_NAME = "event.listener";
+    static final String ERROR_COUNTER_NAME = "event.listener.errors";
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final Tags tags;
+    private final Map<Class<?>, Timer> timers = new ConcurrentHashMap<>();
+
+    ListenerMetrics(ObjectProvider<MeterRegistry> meterRegistryProvider, Method method, String phase) {
+        this.meterRegistryProvider = meterRegistryProvider;
+        Transactional transactional = AnnotatedElementUtils.findMergedAnnotation(method, Transactional.class);
+        this.tags = Tags.of(
+                "listener", ListenerNames.of(method),
+                "phase", phase,
+                "propagation", transactional == null ? "NONE" : transactional.propagation().name()
+        );
+    }
+
+    long start() {
+        return System.nanoTime();
+    }
+
+    void record(ApplicationEvent event, long startTime, Throwable error) {
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
+        if (meterRegistry == null) {
+            return;
+        }
+
+        Class<?> eventClass = event instanceof PayloadApplicationEvent<?> payloadEvent ? payloadEvent.getPayload().getClass() : event.getClass();
+        timers.computeIfAbsent(eventClass, key -> Timer.builder(TIMER_NAME)
+                        .description("listener 실행 시간")
+                        .tags(tags)
+                        .tag("event", key.getSimpleName())
+                        .publishPercentiles(0.5, 0.99)
+                        .register(meterRegistry))
+                .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+
+        if (error != null) {
+            Counter.builder(ERROR_COUNTER_NAME)
+                    .description("listener에서 발생한 예외 수 (AFTER_COMMIT 등 service로 전파되지 않는 예외 포함)")
+                    .tags(tags)
+                    .tag("event", eventClass.getSimpleName())
+                    .tag("exception", error.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.psh10066.example.instrument;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * 지표의 listener 태그로 사용할 이름 (ex. ThrowPropagationEventListener.eventHandler(AFTER_COMMIT_ThrowEvent))
+ */
+public final class ListenerNames {
+
+    private ListenerNames() {
+    }
+
+    public static String of(Method method) {
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName()
+                + Arrays.stream(method.getParameterTypes())
+                .map(Class::getSimpleName)
+                .collect(Collectors.joining(",", "(", ")"));
+    }
+}
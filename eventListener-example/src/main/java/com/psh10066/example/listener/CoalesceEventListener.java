@@ -0,0 +1,38 @@
+package com.psh10066.example.listener;
+
+import com.psh10066.example.coalesce.CoalescedEvents;
+import com.psh10066.example.domain.User;
+import com.psh10066.example.domain.UserRepository;
+import com.psh10066.example.event.COALESCE_AFTER_COMMIT_UserEvent;
+import com.psh10066.example.event.COALESCE_BEFORE_COMMIT_UserEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CoalesceEventListener {
+
+    private final UserRepository userRepository;
+
+    @EventListener
+    public void beforeCommitHandler(CoalescedEvents<COALESCE_BEFORE_COMMIT_UserEvent> events) {
+        log.debug("listener 생성 {}건", events.events().size());
+        userRepository.saveAll(events.events().stream()
+                .map(event -> new User("listener 생성"))
+                .toList());
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @EventListener
+    public void afterCommitHandler(CoalescedEvents<COALESCE_AFTER_COMMIT_UserEvent> events) {
+        log.debug("listener 생성 {}건", events.events().size());
+        userRepository.saveAll(events.events().stream()
+                .map(event -> new User("listener 생성"))
+                .toList());
+    }
+}
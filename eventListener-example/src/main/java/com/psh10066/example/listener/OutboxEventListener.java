@@ -0,0 +1,23 @@
+package com.psh10066.example.listener;
+
+import com.psh10066.example.domain.User;
+import com.psh10066.example.domain.UserRepository;
+import com.psh10066.example.event.OUTBOX_UserCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxEventListener {
+
+    private final UserRepository userRepository;
+
+    @EventListener
+    public void eventHandler(OUTBOX_UserCreatedEvent event) {
+        log.debug("listener 생성");
+        userRepository.save(new User("listener 생성"));
+    }
+}
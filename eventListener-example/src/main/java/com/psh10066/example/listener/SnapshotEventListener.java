@@ -0,0 +1,69 @@
+package com.psh10066.example.listener;
+
+import com.psh10066.example.coalesce.CoalescedEvents;
+import com.psh10066.example.domain.User;
+import com.psh10066.example.domain.UserRepository;
+import com.psh10066.example.event.MERGE_AFTER_COMMIT_UserEvent;
+import com.psh10066.example.event.SNAPSHOT_AFTER_COMMIT_UserEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SnapshotEventListener {
+
+    private final UserRepository userRepository;
+
+    /**
+     * 이벤트의 User는 이미 끝난 트랜잭션의 엔티티이므로 수정 사항을 반영하려면 merge(조회 + 수정)가 필요하다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void afterCommitHandler(MERGE_AFTER_COMMIT_UserEvent event) {
+        User user = event.user();
+        log.debug("merge 수정");
+        user.updateUser("listener 수정");
+        userRepository.save(user);
+    }
+
+    /**
+     * 스냅샷의 id와 값만으로 수정하므로 조회하지 않는다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void afterCommitHandler(SNAPSHOT_AFTER_COMMIT_UserEvent event) {
+        log.debug("bulk update 수정");
+        userRepository.updateNameByIdIn(event.user().name(), List.of(event.user().id()));
+    }
+
+    /**
+     * 같은 값으로 수정할 User끼리 모아 값마다 update ... where id in을 한 번 실행한다.
+     * 같은 User의 스냅샷이 여러 개이면 마지막에 발행된 값을 반영한다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @EventListener
+    public void afterCommitHandler(CoalescedEvents<SNAPSHOT_AFTER_COMMIT_UserEvent> events) {
+        Map<Long, String> nameById = new LinkedHashMap<>();
+        for (SNAPSHOT_AFTER_COMMIT_UserEvent event : events.events()) {
+            nameById.put(event.user().id(), event.user().name());
+        }
+        Map<String, List<Long>> idsByName = nameById.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue, LinkedHashMap::new,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+
+        log.debug("bulk update 수정 {}건, update {}번", events.events().size(), idsByName.size());
+        idsByName.forEach((name, ids) -> userRepository.updateNameByIdIn(name, ids));
+    }
+}
@@ -1,8 +1,11 @@
 package com.psh10066.example.listener;
 
+import com.psh10066.example.async.AsyncListener;
 import com.psh10066.example.event.AFTER_COMMIT_ThrowEvent;
 import com.psh10066.example.event.BEFORE_COMMIT_ThrowEvent;
 import com.psh10066.example.event.EventListener_ThrowEvent;
+import com.psh10066.example.event.OUTBOX_ThrowEvent;
+import com.psh10066.example.resilient.ResilientListener;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
@@ -21,8 +24,15 @@ public class ThrowPropagationEventListener {
         throw new RuntimeException();
     }
 
+    @AsyncListener
+    @ResilientListener
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void eventHandler(AFTER_COMMIT_ThrowEvent event) {
         throw new RuntimeException();
     }
+
+    @EventListener
+    public void eventHandler(OUTBOX_ThrowEvent event) {
+        throw new RuntimeException();
+    }
 }
@@ -1,9 +1,11 @@
 package com.psh10066.example.listener;
 
+import com.psh10066.example.async.AsyncListener;
 import com.psh10066.example.domain.User;
 import com.psh10066.example.domain.UserRepository;
 import com.psh10066.example.event.*;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
@@ -11,6 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class TransactionPropagationEventListener {
@@ -20,10 +23,10 @@ public class TransactionPropagationEventListener {
     @EventListener
     public void eventHandler(EventListener_TransactionEvent event) {
         User user = event.getUser();
-        System.out.println(">>>>>>>>>>>>>>> dirty checking 수정");
+        log.debug("dirty checking 수정");
         user.updateUser("dirty checking 수정");
 
-        System.out.println(">>>>>>>>>>>>>>> listener 생성");
+        log.debug("listener 생성");
         userRepository.save(new User("listener 생성"));
     }
 
@@ -31,20 +34,20 @@ public class TransactionPropagationEventListener {
     @EventListener
     public void eventHandler(EventListener_NewTransactionEvent event) {
         User user = event.getUser();
-        System.out.println(">>>>>>>>>>>>>>> dirty checking 수정");
+        log.debug("dirty checking 수정");
         user.updateUser("dirty checking 수정");
 
-        System.out.println(">>>>>>>>>>>>>>> listener 생성");
+        log.debug("listener 생성");
         userRepository.save(new User("listener 생성"));
     }
 
     @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void eventHandler(BEFORE_COMMIT_TransactionEvent event) {
         User user = event.getUser();
-        System.out.println(">>>>>>>>>>>>>>> dirty checking 수정");
+        log.debug("dirty checking 수정");
         user.updateUser("dirty checking 수정");
 
-        System.out.println(">>>>>>>>>>>>>>> listener 생성");
+        log.debug("listener 생성");
         userRepository.save(new User("listener 생성"));
     }
 
@@ -52,31 +55,33 @@ public class TransactionPropagationEventListener {
     @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void eventHandler(BEFORE_COMMIT_NewTransactionEvent event) {
         User user = event.getUser();
-        System.out.println(">>>>>>>>>>>>>>> dirty checking 수정");
+        log.debug("dirty checking 수정");
         user.updateUser("dirty checking 수정");
 
-        System.out.println(">>>>>>>>>>>>>>> listener 생성");
+        log.debug("listener 생성");
         userRepository.save(new User("listener 생성"));
     }
 
+    @AsyncListener
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
     public void eventHandler(AFTER_COMPLETION_TransactionEvent event) {
         User user = event.getUser();
-        System.out.println(">>>>>>>>>>>>>>> dirty checking 수정");
+        log.debug("dirty checking 수정");
         user.updateUser("dirty checking 수정");
 
-        System.out.println(">>>>>>>>>>>>>>> listener 생성");
+        log.debug("listener 생성");
         userRepository.save(new User("listener 생성"));
     }
 
+    @AsyncListener
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
     public void eventHandler(AFTER_COMPLETION_NewTransactionEvent event) {
         User user = event.getUser();
-        System.out.println(">>>>>>>>>>>>>>> dirty checking 수정");
+        log.debug("dirty checking 수정");
         user.updateUser("dirty checking 수정");
 
-        System.out.println(">>>>>>>>>>>>>>> listener 생성");
+        log.debug("listener 생성");
         userRepository.save(new User("listener 생성"));
     }
 }
@@ -0,0 +1,17 @@
+package com.psh10066.example.multicaster;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.support.AbstractApplicationContext;
+
+@Configuration
+@ConditionalOnProperty(name = "event.multicaster.dispatch-table.enabled", havingValue = "true")
+public class EventMulticasterConfig {
+
+    @Bean(name = AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME)
+    public DispatchTableEventMulticaster applicationEventMulticaster(BeanFactory beanFactory) {
+        return new DispatchTableEventMulticaster(beanFactory);
+    }
+}
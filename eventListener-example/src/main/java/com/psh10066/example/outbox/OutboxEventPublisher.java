@@ -0,0 +1,43 @@
+package com.psh10066.example.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 이벤트를 바로 발행하지 않고 현재 트랜잭션에서 outbox_message 테이블에 저장한다.
+ * <p>
+ * 트랜잭션이 롤백되면 이벤트도 함께 사라지고, 커밋되면 서버가 종료되더라도 {@link OutboxRelay}가 이후에 발행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventPublisher {
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param aggregateType 이벤트 발행 순서를 보장할 단위의 종류 (ex. User)
+     * @param aggregateId   이벤트 발행 순서를 보장할 단위의 id
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(String aggregateType, Object aggregateId, Object event) {
+        outboxMessageRepository.save(new OutboxMessage(
+                aggregateType,
+                String.valueOf(aggregateId),
+                event.getClass().getName(),
+                serialize(event)
+        ));
+    }
+
+    private String serialize(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("이벤트를 직렬화할 수 없음 : " + event.getClass().getName(), e);
+        }
+    }
+}
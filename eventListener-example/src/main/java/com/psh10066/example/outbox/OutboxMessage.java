@@ -0,0 +1,64 @@
+package com.psh10066.example.outbox;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * service의 트랜잭션 안에서 저장되어, 커밋된 경우에만 {@link OutboxRelay}가 발행하는 이벤트
+ */
+@Entity
+@Table(name = "outbox_message")
+@Getter
+@NoArgsConstructor
+public class OutboxMessage {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String aggregateType;
+
+    private String aggregateId;
+
+    private String eventType;
+
+    @Lob
+    private String payload;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt;
+
+    /**
+     * 발행에 실패한 횟수
+     */
+    private int attempts;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    /**
+     * 발행에 max-attempts번 실패해 더 이상 발행하지 않는 시각
+     * <p>
+     * 같은 aggregate의 이후 이벤트도 순서를 지키기 위해 발행하지 않는다. ({@link OutboxRelay#unpark(Long)}로 다시 발행)
+     */
+    private LocalDateTime parkedAt;
+
+    public OutboxMessage(String aggregateType, String aggregateId, String eventType, String payload) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    static String toErrorMessage(Throwable error) {
+        String message = error.getClass().getName() + ": " + error.getMessage();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,58 @@
+package com.psh10066.example.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    /**
+     * id가 afterId보다 큰 발행되지 않은 이벤트를 id 순서대로 조회한다.
+     * <p>
+     * 보류된 이벤트와, 같은 aggregate에 먼저 보류된 이벤트가 있는 이벤트는 제외한다.
+     */
+    @Query("""
+            SELECT o FROM OutboxMessage o
+            WHERE o.publishedAt IS NULL AND o.parkedAt IS NULL AND o.id > :afterId
+            AND NOT EXISTS (
+                SELECT p.id FROM OutboxMessage p
+                WHERE p.parkedAt IS NOT NULL AND p.publishedAt IS NULL
+                AND p.aggregateType = o.aggregateType AND p.aggregateId = o.aggregateId AND p.id < o.id
+            )
+            ORDER BY o.id
+            """)
+    List<OutboxMessage> findUnpublished(long afterId, Pageable pageable);
+
+    long countByPublishedAtIsNull();
+
+    long countByParkedAtIsNotNull();
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxMessage o SET o.publishedAt = :publishedAt WHERE o.id IN :ids")
+    int markPublished(List<Long> ids, LocalDateTime publishedAt);
+
+    /**
+     * 실패 횟수를 늘리고, maxAttempts번 실패했으면 보류한다.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE OutboxMessage o
+            SET o.attempts = o.attempts + 1,
+                o.lastError = :lastError,
+                o.parkedAt = CASE WHEN o.attempts + 1 >= :maxAttempts THEN :failedAt ELSE NULL END
+            WHERE o.id = :id
+            """)
+    int markFailed(Long id, String lastError, int maxAttempts, LocalDateTime failedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxMessage o SET o.attempts = 0, o.parkedAt = NULL WHERE o.id = :id AND o.parkedAt IS NOT NULL")
+    int unpark(Long id);
+}
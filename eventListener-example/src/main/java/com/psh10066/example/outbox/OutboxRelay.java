@@ -0,0 +1,127 @@
+package com.psh10066.example.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * outbox_message 테이블에 저장된 이벤트를 저장된 순서대로 발행한다.
+ * <p>
+ * listener가 끝난 뒤 발행 완료로 표시하므로, 표시하기 전에 서버가 종료되면 같은 이벤트가 다시 발행될 수 있다. (at-least-once)
+ * listener에서 예외가 발생하면 같은 aggregate의 이후 이벤트는 발행하지 않고 다음 relay에서 다시 시도한다.
+ * max-attempts번 실패한 이벤트는 보류하고, 보류된 aggregate의 이벤트는 {@link #unpark(Long)} 전까지 조회하지 않으므로 다른 aggregate의 발행을 막지 않는다.
+ * <p>
+ * 트랜잭션 밖에서 발행하므로 @EventListener로만 받을 수 있으며, 여러 서버에서 동시에 relay하지 않는다고 가정한다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    public OutboxRelay(
+            OutboxMessageRepository outboxMessageRepository,
+            ApplicationEventPublisher applicationEventPublisher,
+            ObjectMapper objectMapper,
+            @Value("${event.outbox.relay.batch-size:100}") int batchSize,
+            @Value("${event.outbox.relay.max-attempts:5}") int maxAttempts
+    ) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 발행되지 않은 이벤트를 끝까지 batchSize개씩 발행한다.
+     * <p>
+     * 실패한 이벤트가 있어도 id 순서로 다음 batch를 조회하므로, 실패한 aggregate가 앞쪽을 차지해도 다른 aggregate는 발행된다.
+     *
+     * @return 발행한 이벤트 수
+     */
+    public int relayAll() {
+        Set<String> failedAggregates = new HashSet<>();
+        int total = 0;
+        long afterId = 0;
+        List<OutboxMessage> messages;
+        do {
+            messages = outboxMessageRepository.findUnpublished(afterId, PageRequest.ofSize(batchSize));
+            total += relay(messages, failedAggregates);
+            if (!messages.isEmpty()) {
+                afterId = messages.get(messages.size() - 1).getId();
+            }
+        } while (messages.size() == batchSize);
+        return total;
+    }
+
+    /**
+     * 발행되지 않은 이벤트를 최대 batchSize개 발행한다.
+     *
+     * @return 발행한 이벤트 수
+     */
+    public int relay() {
+        return relay(outboxMessageRepository.findUnpublished(0, PageRequest.ofSize(batchSize)), new HashSet<>());
+    }
+
+    /**
+     * 보류된 이벤트를 다음 relay에서 다시 발행한다.
+     *
+     * @return 보류된 이벤트였는지 여부
+     */
+    public boolean unpark(Long id) {
+        return outboxMessageRepository.unpark(id) == 1;
+    }
+
+    private int relay(List<OutboxMessage> messages, Set<String> failedAggregates) {
+        List<Long> publishedIds = new ArrayList<>(messages.size());
+        for (OutboxMessage message : messages) {
+            String aggregate = message.getAggregateType() + ":" + message.getAggregateId();
+            if (failedAggregates.contains(aggregate)) {
+                continue;
+            }
+
+            try {
+                applicationEventPublisher.publishEvent(deserialize(message));
+                publishedIds.add(message.getId());
+            } catch (Exception e) {
+                failedAggregates.add(aggregate);
+                markFailed(message, aggregate, e);
+            }
+        }
+
+        if (!publishedIds.isEmpty()) {
+            outboxMessageRepository.markPublished(publishedIds, LocalDateTime.now());
+        }
+        return publishedIds.size();
+    }
+
+    private void markFailed(OutboxMessage message, String aggregate, Exception e) {
+        outboxMessageRepository.markFailed(message.getId(), OutboxMessage.toErrorMessage(e), maxAttempts, LocalDateTime.now());
+        int attempts = message.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            log.error("outbox 이벤트 발행 보류 : id={}, aggregate={}, attempts={}", message.getId(), aggregate, attempts, e);
+        } else {
+            log.warn("outbox 이벤트 발행 실패 : id={}, aggregate={}, attempts={}", message.getId(), aggregate, attempts, e);
+        }
+    }
+
+    private Object deserialize(OutboxMessage message) throws Exception {
+        Class<?> eventType = ClassUtils.forName(message.getEventType(), getClass().getClassLoader());
+        return objectMapper.readValue(message.getPayload(), eventType);
+    }
+}
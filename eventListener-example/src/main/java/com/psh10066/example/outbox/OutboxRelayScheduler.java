@@ -0,0 +1,21 @@
+package com.psh10066.example.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "event.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelayScheduler {
+
+    private final OutboxRelay outboxRelay;
+
+    @Scheduled(fixedDelayString = "${event.outbox.relay.fixed-delay:1000}")
+    public void relay() {
+        outboxRelay.relayAll();
+    }
+}
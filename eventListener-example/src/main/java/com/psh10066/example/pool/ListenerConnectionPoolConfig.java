@@ -0,0 +1,52 @@
+package com.psh10066.example.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * spring.datasource 설정으로 기본 풀과 listener 전용 풀을 만들고, 두 풀을 {@link ListenerRoutingDataSource}로 묶는다.
+ * <p>
+ * listener 전용 풀은 spring.datasource.hikari 대신 event.listener-pool.hikari 설정을 사용한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "event.listener-pool.enabled", havingValue = "true")
+public class ListenerConnectionPoolConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource mainDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("event.listener-pool.hikari")
+    public HikariDataSource listenerDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @Primary
+    public ListenerRoutingDataSource dataSource(
+            @Qualifier("mainDataSource") HikariDataSource mainDataSource,
+            @Qualifier("listenerDataSource") HikariDataSource listenerDataSource
+    ) {
+        return new ListenerRoutingDataSource(mainDataSource, listenerDataSource);
+    }
+
+    @Bean
+    public NestedTransactionListenerAspect nestedTransactionListenerAspect(
+            ObjectProvider<EntityManagerFactory> entityManagerFactory,
+            MeterRegistry meterRegistry
+    ) {
+        return new NestedTransactionListenerAspect(entityManagerFactory, meterRegistry);
+    }
+}
@@ -0,0 +1,44 @@
+package com.psh10066.example.pool;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 바깥 트랜잭션이 커넥션을 가진 상태에서 실행되는 listener의 커넥션은 listener 전용 풀에서 가져온다.
+ */
+public class ListenerRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Boolean> NESTED = ThreadLocal.withInitial(() -> false);
+
+    private enum Pool {
+        MAIN,
+        LISTENER
+    }
+
+    public ListenerRoutingDataSource(DataSource mainDataSource, DataSource listenerDataSource) {
+        setTargetDataSources(Map.of(Pool.MAIN, mainDataSource, Pool.LISTENER, listenerDataSource));
+        setDefaultTargetDataSource(mainDataSource);
+    }
+
+    /**
+     * 이후 새로 가져오는 커넥션은 listener 전용 풀을 사용한다.
+     *
+     * @return {@link #endNested(boolean)}에 전달할 이전 상태
+     */
+    static boolean beginNested() {
+        boolean nested = NESTED.get();
+        NESTED.set(true);
+        return nested;
+    }
+
+    static void endNested(boolean previous) {
+        NESTED.set(previous);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return NESTED.get() ? Pool.LISTENER : Pool.MAIN;
+    }
+}
@@ -0,0 +1,49 @@
+package com.psh10066.example.pool;
+
+import com.psh10066.example.instrument.ListenerNames;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * REQUIRES_NEW listener가 바깥 트랜잭션의 커넥션을 가진 스레드에서 실행되면 listener 전용 풀의 커넥션으로 실행한다.
+ * <p>
+ * 동시 요청 수가 풀 크기에 도달하면 모든 요청이 커넥션 하나를 가진 채 두 번째 커넥션을 기다리며 멈추므로,
+ * 두 번째 커넥션은 다른 커넥션을 기다리지 않는 별도의 풀에서 가져온다.
+ * {@code @Transactional}보다 먼저 적용되어야 트랜잭션을 시작할 때 listener 전용 풀을 사용한다.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@RequiredArgsConstructor
+public class NestedTransactionListenerAspect {
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+    private final MeterRegistry meterRegistry;
+
+    @Around("@annotation(transactional) && (@annotation(org.springframework.context.event.EventListener) || @annotation(org.springframework.transaction.event.TransactionalEventListener))")
+    public Object route(ProceedingJoinPoint joinPoint, Transactional transactional) throws Throwable {
+        if (transactional.propagation() != Propagation.REQUIRES_NEW
+                || !TransactionSynchronizationManager.hasResource(entityManagerFactory.getObject())) {
+            return joinPoint.proceed();
+        }
+
+        meterRegistry.counter("event.listener.pool.nested",
+                "listener", ListenerNames.of(((MethodSignature) joinPoint.getSignature()).getMethod())).increment();
+        boolean previous = ListenerRoutingDataSource.beginNested();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ListenerRoutingDataSource.endNested(previous);
+        }
+    }
+}
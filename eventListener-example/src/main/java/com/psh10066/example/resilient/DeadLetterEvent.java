@@ -0,0 +1,69 @@
+package com.psh10066.example.resilient;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재시도를 모두 실패한 이벤트
+ */
+@Entity
+@Table(name = "dead_letter_event")
+@Getter
+@NoArgsConstructor
+public class DeadLetterEvent {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String listener;
+
+    private String beanType;
+
+    private String methodName;
+
+    private String eventType;
+
+    @Lob
+    private String payload;
+
+    private int attempts;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime replayedAt;
+
+    public DeadLetterEvent(String listener, String beanType, String methodName, String eventType, String payload, int attempts, Throwable error) {
+        this.listener = listener;
+        this.beanType = beanType;
+        this.methodName = methodName;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.attempts = attempts;
+        this.lastError = toErrorMessage(error);
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public void replayed() {
+        this.attempts++;
+        this.replayedAt = LocalDateTime.now();
+    }
+
+    public void replayFailed(Throwable error) {
+        this.attempts++;
+        this.lastError = toErrorMessage(error);
+    }
+
+    private static String toErrorMessage(Throwable error) {
+        String message = error.getClass().getName() + ": " + error.getMessage();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
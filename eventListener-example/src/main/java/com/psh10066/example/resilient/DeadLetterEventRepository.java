@@ -0,0 +1,10 @@
+package com.psh10066.example.resilient;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface DeadLetterEventRepository extends JpaRepository<DeadLetterEvent, Long> {
+
+    List<DeadLetterEvent> findByReplayedAtIsNullOrderByIdAsc();
+}
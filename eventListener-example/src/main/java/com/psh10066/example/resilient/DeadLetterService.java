@@ -0,0 +1,63 @@
+package com.psh10066.example.resilient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.psh10066.example.async.AsyncListenerAspect;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * dead_letter_event 테이블에 저장된 이벤트를 해당 listener에서 다시 실행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeadLetterService {
+
+    private final DeadLetterEventRepository deadLetterEventRepository;
+    private final ApplicationContext applicationContext;
+    private final ObjectMapper objectMapper;
+
+    public List<DeadLetterEvent> findAll() {
+        return deadLetterEventRepository.findByReplayedAtIsNullOrderByIdAsc();
+    }
+
+    /**
+     * 재시도 없이 한 번 실행하며, 실패하면 실행 횟수와 마지막 예외만 갱신한다.
+     * <p>
+     * {@code @AsyncListener}도 붙은 listener는 성공 여부를 확인할 수 있도록 호출한 스레드에서 실행한다.
+     */
+    public DeadLetterEvent replay(Long id) {
+        DeadLetterEvent deadLetterEvent = deadLetterEventRepository.findById(id)
+                .orElseThrow(() -> new NoSuchElementException("dead letter가 없음 : " + id));
+        if (deadLetterEvent.getReplayedAt() != null) {
+            return deadLetterEvent;
+        }
+
+        try {
+            ClassLoader classLoader = getClass().getClassLoader();
+            Object listener = applicationContext.getBean(ClassUtils.forName(deadLetterEvent.getBeanType(), classLoader));
+            Class<?> eventType = ClassUtils.forName(deadLetterEvent.getEventType(), classLoader);
+            Method method = ReflectionUtils.findMethod(listener.getClass(), deadLetterEvent.getMethodName(), eventType);
+            if (method == null) {
+                throw new NoSuchMethodException(deadLetterEvent.getListener());
+            }
+            ReflectionUtils.makeAccessible(method);
+            Object event = objectMapper.readValue(deadLetterEvent.getPayload(), eventType);
+
+            ResilientListenerAspect.replay(() -> AsyncListenerAspect.inline(() -> ReflectionUtils.invokeMethod(method, listener, event)));
+            deadLetterEvent.replayed();
+        } catch (Exception e) {
+            log.error("dead letter 재실행 실패 : {}", id, e);
+            deadLetterEvent.replayFailed(e);
+        }
+        return deadLetterEventRepository.save(deadLetterEvent);
+    }
+}
@@ -0,0 +1,38 @@
+package com.psh10066.example.resilient;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * event.resilient.enabled=true 이면 listener에서 예외가 발생했을 때 별도 스레드에서 재시도하고,
+ * maxAttempts번 모두 실패하면 dead_letter_event 테이블에 저장한다.
+ * <p>
+ * 예외가 호출한 곳으로 전파되지 않으므로 AFTER_COMMIT, AFTER_ROLLBACK, AFTER_COMPLETION listener에만 사용한다.
+ * 재실행(replay)하려면 이벤트를 JSON으로 직렬화, 역직렬화할 수 있어야 한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ResilientListener {
+
+    /**
+     * 첫 실행을 포함한 최대 실행 횟수
+     */
+    int maxAttempts() default 3;
+
+    /**
+     * 첫 재시도까지의 대기 시간 (ms)
+     */
+    long initialDelay() default 1000;
+
+    /**
+     * 재시도마다 대기 시간에 곱할 값
+     */
+    double multiplier() default 2.0;
+
+    /**
+     * 최대 대기 시간 (ms)
+     */
+    long maxDelay() default 60000;
+}
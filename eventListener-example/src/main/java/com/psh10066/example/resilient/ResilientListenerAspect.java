@@ -0,0 +1,127 @@
+package com.psh10066.example.resilient;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.psh10066.example.instrument.ListenerNames;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.util.concurrent.Callable;
+
+/**
+ * {@link ResilientListener}가 붙은 listener에서 예외가 발생하면 지수 백오프로 재시도한다.
+ * <p>
+ * 재시도는 전용 스케줄러 스레드에서 실행되므로 커밋한 스레드를 막지 않는다.
+ * {@code @AsyncListener}와 함께 사용하면 비동기 스레드에서 첫 실행을 한다.
+ */
+@Slf4j
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ResilientListenerAspect implements DisposableBean {
+
+    /**
+     * replay 중에는 재시도 없이 예외를 그대로 던진다.
+     */
+    private static final ThreadLocal<Boolean> REPLAYING = ThreadLocal.withInitial(() -> false);
+
+    private final DeadLetterEventRepository deadLetterEventRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+
+    public ResilientListenerAspect(
+            DeadLetterEventRepository deadLetterEventRepository,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            int schedulerPoolSize
+    ) {
+        this.deadLetterEventRepository = deadLetterEventRepository;
+        this.objectMapper = objectMapper.copy().disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+        // AFTER_COMMIT 등 이미 끝난 트랜잭션 안에서도 저장되도록 새 트랜잭션에서 저장한다.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.taskScheduler.setPoolSize(schedulerPoolSize);
+        this.taskScheduler.setThreadNamePrefix("resilient-listener-");
+        this.taskScheduler.initialize();
+    }
+
+    static <T> T replay(Callable<T> callable) throws Exception {
+        REPLAYING.set(true);
+        try {
+            return callable.call();
+        } finally {
+            REPLAYING.remove();
+        }
+    }
+
+    @Around("@annotation(resilientListener)")
+    public Object retry(ProceedingJoinPoint joinPoint, ResilientListener resilientListener) throws Throwable {
+        if (REPLAYING.get()) {
+            return joinPoint.proceed();
+        }
+
+        attempt(joinPoint, resilientListener, 1);
+        return null;
+    }
+
+    private void attempt(ProceedingJoinPoint joinPoint, ResilientListener resilientListener, int attempt) {
+        try {
+            joinPoint.proceed();
+        } catch (Throwable e) {
+            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            if (attempt >= resilientListener.maxAttempts()) {
+                log.error("listener 재시도 실패 : {}, {}회", ListenerNames.of(method), attempt, e);
+                deadLetter(joinPoint, method, attempt, e);
+                return;
+            }
+
+            long delay = (long) Math.min(
+                    resilientListener.initialDelay() * Math.pow(resilientListener.multiplier(), attempt - 1),
+                    resilientListener.maxDelay()
+            );
+            log.warn("listener 실패, {}ms 후 재시도 : {}, {}회", delay, ListenerNames.of(method), attempt, e);
+            taskScheduler.schedule(() -> attempt(joinPoint, resilientListener, attempt + 1), Instant.now().plusMillis(delay));
+        }
+    }
+
+    private void deadLetter(ProceedingJoinPoint joinPoint, Method method, int attempts, Throwable error) {
+        Object event = joinPoint.getArgs()[0];
+        DeadLetterEvent deadLetterEvent = new DeadLetterEvent(
+                ListenerNames.of(method),
+                method.getDeclaringClass().getName(),
+                method.getName(),
+                event.getClass().getName(),
+                serialize(event),
+                attempts,
+                error
+        );
+        transactionTemplate.executeWithoutResult(status -> deadLetterEventRepository.save(deadLetterEvent));
+    }
+
+    private String serialize(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.error("이벤트를 직렬화할 수 없음 : {}", event.getClass().getName(), e);
+            return null;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        taskScheduler.shutdown();
+    }
+}
@@ -0,0 +1,23 @@
+package com.psh10066.example.resilient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@ConditionalOnProperty(name = "event.resilient.enabled", havingValue = "true")
+public class ResilientListenerConfig {
+
+    @Bean
+    public ResilientListenerAspect resilientListenerAspect(
+            DeadLetterEventRepository deadLetterEventRepository,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${event.resilient.scheduler-pool-size:2}") int schedulerPoolSize
+    ) {
+        return new ResilientListenerAspect(deadLetterEventRepository, objectMapper, transactionManager, schedulerPoolSize);
+    }
+}
@@ -0,0 +1,46 @@
+package com.psh10066.example.service;
+
+import com.psh10066.example.coalesce.CoalescingEventPublisher;
+import com.psh10066.example.domain.User;
+import com.psh10066.example.domain.UserRepository;
+import com.psh10066.example.event.COALESCE_AFTER_COMMIT_UserEvent;
+import com.psh10066.example.event.COALESCE_BEFORE_COMMIT_UserEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CoalesceService {
+
+    private final UserRepository userRepository;
+    private final CoalescingEventPublisher coalescingEventPublisher;
+
+    @Transactional
+    public void coalesce_BEFORE_COMMIT(int count) {
+        for (int i = 0; i < count; i++) {
+            log.debug("service 생성");
+            User user = userRepository.save(new User("service 생성"));
+            coalescingEventPublisher.publish(new COALESCE_BEFORE_COMMIT_UserEvent(user.getId()), TransactionPhase.BEFORE_COMMIT);
+        }
+    }
+
+    @Transactional
+    public void coalesce_AFTER_COMMIT(int count) {
+        for (int i = 0; i < count; i++) {
+            log.debug("service 생성");
+            User user = userRepository.save(new User("service 생성"));
+            coalescingEventPublisher.publish(new COALESCE_AFTER_COMMIT_UserEvent(user.getId()), TransactionPhase.AFTER_COMMIT);
+        }
+    }
+
+    @Transactional
+    public void coalesce_ROLLBACK(int count) {
+        coalesce_BEFORE_COMMIT(count);
+        coalesce_AFTER_COMMIT(count);
+        throw new RuntimeException();
+    }
+}
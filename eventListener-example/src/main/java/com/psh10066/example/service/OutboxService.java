@@ -0,0 +1,34 @@
+package com.psh10066.example.service;
+
+import com.psh10066.example.domain.User;
+import com.psh10066.example.domain.UserRepository;
+import com.psh10066.example.event.OUTBOX_UserCreatedEvent;
+import com.psh10066.example.outbox.OutboxEventPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final UserRepository userRepository;
+    private final OutboxEventPublisher outboxEventPublisher;
+
+    @Transactional
+    public void outbox() {
+        log.debug("service 생성");
+        User user = userRepository.save(new User("service 생성"));
+        outboxEventPublisher.publish("User", user.getId(), new OUTBOX_UserCreatedEvent(user.getId(), user.getName()));
+    }
+
+    @Transactional
+    public void outbox_ROLLBACK() {
+        log.debug("service 생성");
+        User user = userRepository.save(new User("service 생성"));
+        outboxEventPublisher.publish("User", user.getId(), new OUTBOX_UserCreatedEvent(user.getId(), user.getName()));
+        throw new RuntimeException();
+    }
+}
@@ -0,0 +1,51 @@
+package com.psh10066.example.service;
+
+import com.psh10066.example.coalesce.CoalescingEventPublisher;
+import com.psh10066.example.domain.User;
+import com.psh10066.example.domain.UserRepository;
+import com.psh10066.example.domain.UserSnapshot;
+import com.psh10066.example.event.MERGE_AFTER_COMMIT_UserEvent;
+import com.psh10066.example.event.SNAPSHOT_AFTER_COMMIT_UserEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SnapshotService {
+
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final CoalescingEventPublisher coalescingEventPublisher;
+
+    @Transactional
+    public void merge_AFTER_COMMIT(int count) {
+        for (int i = 0; i < count; i++) {
+            log.debug("service 생성");
+            User user = userRepository.save(new User("service 생성"));
+            applicationEventPublisher.publishEvent(new MERGE_AFTER_COMMIT_UserEvent(user));
+        }
+    }
+
+    @Transactional
+    public void snapshot_AFTER_COMMIT(int count) {
+        for (int i = 0; i < count; i++) {
+            log.debug("service 생성");
+            User user = userRepository.save(new User("service 생성"));
+            applicationEventPublisher.publishEvent(new SNAPSHOT_AFTER_COMMIT_UserEvent(new UserSnapshot(user.getId(), "listener 수정")));
+        }
+    }
+
+    @Transactional
+    public void snapshotCoalesce_AFTER_COMMIT(int count) {
+        for (int i = 0; i < count; i++) {
+            log.debug("service 생성");
+            User user = userRepository.save(new User("service 생성"));
+            coalescingEventPublisher.publish(new SNAPSHOT_AFTER_COMMIT_UserEvent(new UserSnapshot(user.getId(), "listener 수정")), TransactionPhase.AFTER_COMMIT);
+        }
+    }
+}
@@ -4,10 +4,12 @@ import com.psh10066.example.domain.User;
 import com.psh10066.example.domain.UserRepository;
 import com.psh10066.example.event.*;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TransactionPropagationService {
@@ -16,55 +18,55 @@ public class TransactionPropagationService {
     private final ApplicationEventPublisher applicationEventPublisher;
 
     public void eventListener_noTransactional() {
-        System.out.println(">>>>>>>>>>>>>>> service 생성");
+        log.debug("service 생성");
         User user = userRepository.save(new User("service 생성"));
         applicationEventPublisher.publishEvent(new EventListener_TransactionEvent(user));
     }
 
     @Transactional
     public void eventListener_hasTransactional() {
-        System.out.println(">>>>>>>>>>>>>>> service 생성");
+        log.debug("service 생성");
         User user = userRepository.save(new User("service 생성"));
         applicationEventPublisher.publishEvent(new EventListener_TransactionEvent(user));
     }
 
     public void eventListener_newTransactional() {
-        System.out.println(">>>>>>>>>>>>>>> service 생성");
+        log.debug("service 생성");
         User user = userRepository.save(new User("service 생성"));
         applicationEventPublisher.publishEvent(new EventListener_NewTransactionEvent(user));
     }
 
     @Transactional
     public void transactionalEventListener_BEFORE_COMMIT() {
-        System.out.println(">>>>>>>>>>>>>>> service 생성");
+        log.debug("service 생성");
         User user = userRepository.save(new User("service 생성"));
         applicationEventPublisher.publishEvent(new BEFORE_COMMIT_TransactionEvent(user));
     }
 
     @Transactional
     public void newTransactionalEventListener_BEFORE_COMMIT() {
-        System.out.println(">>>>>>>>>>>>>>> service 생성");
+        log.debug("service 생성");
         User user = userRepository.save(new User("service 생성"));
         applicationEventPublisher.publishEvent(new BEFORE_COMMIT_NewTransactionEvent(user));
     }
 
     @Transactional
     public void transactionalEventListener_AFTER_COMMIT() {
-        System.out.println(">>>>>>>>>>>>>>> service 생성");
+        log.debug("service 생성");
         User user = userRepository.save(new User("service 생성"));
         applicationEventPublisher.publishEvent(new AFTER_COMPLETION_TransactionEvent(user));
     }
 
     @Transactional
     public void newTransactionalEventListener_AFTER_COMMIT() {
-        System.out.println(">>>>>>>>>>>>>>> service 생성");
+        log.debug("service 생성");
         User user = userRepository.save(new User("service 생성"));
         applicationEventPublisher.publishEvent(new AFTER_COMPLETION_NewTransactionEvent(user));
     }
 
     @Transactional
     public void transactionalEventListener_AFTER_ROLLBACK() {
-        System.out.println(">>>>>>>>>>>>>>> service 생성");
+        log.debug("service 생성");
         User user = userRepository.save(new User("service 생성"));
         applicationEventPublisher.publishEvent(new AFTER_COMPLETION_TransactionEvent(user));
         throw new RuntimeException();
@@ -72,7 +74,7 @@ public class TransactionPropagationService {
 
     @Transactional
     public void newTransactionalEventListener_AFTER_ROLLBACK() {
-        System.out.println(">>>>>>>>>>>>>>> service 생성");
+        log.debug("service 생성");
         User user = userRepository.save(new User("service 생성"));
         applicationEventPublisher.publishEvent(new AFTER_COMPLETION_NewTransactionEvent(user));
         throw new RuntimeException();
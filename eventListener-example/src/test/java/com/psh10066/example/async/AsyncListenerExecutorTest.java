@@ -0,0 +1,132 @@
+package com.psh10066.example.async;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncListenerExecutorTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch finish = new CountDownLatch(1);
+    private AsyncListenerExecutor asyncListenerExecutor;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        finish.countDown();
+        asyncListenerExecutor.destroy();
+    }
+
+    @DisplayName("listener는 호출한 스레드가 아닌 별도 스레드에서 실행된다.")
+    @Test
+    void execute() throws InterruptedException {
+        asyncListenerExecutor = createExecutor(AsyncListenerProperties.ExecutorType.VIRTUAL, 1, 0, AsyncListenerProperties.Backpressure.BLOCK);
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        CountDownLatch executed = new CountDownLatch(1);
+
+        asyncListenerExecutor.execute("listener", 0, () -> {
+            thread.set(Thread.currentThread());
+            executed.countDown();
+        });
+
+        assertTrue(executed.await(1, TimeUnit.SECONDS));
+        assertTrue(thread.get().isVirtual());
+    }
+
+    @DisplayName("backpressure가 DROP이면 자리가 없을 때 listener를 실행하지 않는다.")
+    @Test
+    void execute_drop() throws InterruptedException {
+        asyncListenerExecutor = createExecutor(AsyncListenerProperties.ExecutorType.PLATFORM, 1, 0, AsyncListenerProperties.Backpressure.DROP);
+        AtomicInteger executedCount = new AtomicInteger();
+
+        asyncListenerExecutor.execute("listener", 0, this::awaitFinish);
+        asyncListenerExecutor.execute("listener", 0, executedCount::incrementAndGet);
+
+        assertEquals(0, executedCount.get());
+        assertEquals(1.0, meterRegistry.get("event.async.dropped").counter().count());
+    }
+
+    @DisplayName("backpressure가 CALLER_RUNS이면 자리가 없을 때 호출한 스레드에서 listener를 실행한다.")
+    @Test
+    void execute_callerRuns() {
+        asyncListenerExecutor = createExecutor(AsyncListenerProperties.ExecutorType.PLATFORM, 1, 0, AsyncListenerProperties.Backpressure.CALLER_RUNS);
+        AtomicReference<Thread> thread = new AtomicReference<>();
+
+        asyncListenerExecutor.execute("listener", 0, this::awaitFinish);
+        asyncListenerExecutor.execute("listener", 0, () -> thread.set(Thread.currentThread()));
+
+        assertEquals(Thread.currentThread(), thread.get());
+        assertEquals(1.0, meterRegistry.get("event.async.caller.runs").counter().count());
+    }
+
+    @DisplayName("listener별 최대 동시 실행 수를 넘으면 대기열에서 기다린다.")
+    @Test
+    void execute_maxConcurrency() throws InterruptedException {
+        asyncListenerExecutor = createExecutor(AsyncListenerProperties.ExecutorType.VIRTUAL, 4, 10, AsyncListenerProperties.Backpressure.BLOCK);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch executed = new CountDownLatch(4);
+
+        for (int i = 0; i < 4; i++) {
+            asyncListenerExecutor.execute("listener", 1, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(20);
+                running.decrementAndGet();
+                executed.countDown();
+            });
+        }
+
+        assertTrue(executed.await(1, TimeUnit.SECONDS));
+        assertEquals(1, maxRunning.get());
+    }
+
+    @DisplayName("최대 동시 실행 수에 도달한 listener가 대기 중이어도 다른 listener는 스레드를 얻어 실행된다.")
+    @Test
+    void execute_maxConcurrency_otherListener() throws InterruptedException {
+        asyncListenerExecutor = createExecutor(AsyncListenerProperties.ExecutorType.PLATFORM, 2, 10, AsyncListenerProperties.Backpressure.BLOCK);
+        CountDownLatch executed = new CountDownLatch(1);
+
+        for (int i = 0; i < 4; i++) {
+            asyncListenerExecutor.execute("slow", 1, this::awaitFinish);
+        }
+        asyncListenerExecutor.execute("fast", 0, executed::countDown);
+
+        assertTrue(executed.await(1, TimeUnit.SECONDS));
+    }
+
+    @DisplayName("listener에서 발생한 예외는 호출한 스레드로 전파되지 않고 지표에 기록된다.")
+    @Test
+    void execute_throw() throws InterruptedException {
+        asyncListenerExecutor = createExecutor(AsyncListenerProperties.ExecutorType.PLATFORM, 1, 0, AsyncListenerProperties.Backpressure.BLOCK);
+
+        asyncListenerExecutor.execute("listener", 0, () -> {
+            throw new RuntimeException();
+        });
+        asyncListenerExecutor.destroy();
+
+        assertEquals(1.0, meterRegistry.get("event.async.handler.errors").tag("listener", "listener").counter().count());
+        assertEquals(1L, meterRegistry.get("event.async.handler").tag("listener", "listener").timer().count());
+    }
+
+    private AsyncListenerExecutor createExecutor(
+            AsyncListenerProperties.ExecutorType executorType,
+            int poolSize,
+            int queueCapacity,
+            AsyncListenerProperties.Backpressure backpressure
+    ) {
+        return new AsyncListenerExecutor(new AsyncListenerProperties(executorType, poolSize, queueCapacity, backpressure), meterRegistry);
+    }
+
+    private void awaitFinish() throws InterruptedException {
+        finish.await();
+    }
+}
@@ -0,0 +1,96 @@
+package com.psh10066.example.domain;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class UserSecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAllInBatch();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @DisplayName("한 번 조회한 User는 다른 트랜잭션에서도 DB를 조회하지 않고 2차 캐시에서 가져온다.")
+    @Test
+    void findById() {
+        Long id = userRepository.save(new User("홍길동")).getId();
+        userRepository.findById(id);
+        statistics.clear();
+
+        User user = userRepository.findById(id).orElseThrow();
+
+        assertEquals("홍길동", user.getName());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @DisplayName("updateUser로 수정하면 커밋할 때 2차 캐시도 수정된다.")
+    @Test
+    void updateUser() {
+        Long id = userRepository.save(new User("홍길동")).getId();
+        userRepository.findById(id);
+
+        transactionTemplate.executeWithoutResult(status -> userRepository.findById(id).orElseThrow().updateUser("dirty checking 수정"));
+        statistics.clear();
+        User user = userRepository.findById(id).orElseThrow();
+
+        assertEquals("dirty checking 수정", user.getName());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @DisplayName("bulk update를 실행하면 2차 캐시가 무효화되어 DB에서 다시 조회한다.")
+    @Test
+    void updateNameByIdIn() {
+        Long id = userRepository.save(new User("홍길동")).getId();
+        userRepository.findById(id);
+
+        transactionTemplate.executeWithoutResult(status -> userRepository.updateNameByIdIn("bulk update 수정", List.of(id)));
+        statistics.clear();
+        User user = userRepository.findById(id).orElseThrow();
+
+        assertEquals("bulk update 수정", user.getName());
+        assertEquals(0, statistics.getSecondLevelCacheHitCount());
+        assertEquals(1, statistics.getSecondLevelCacheMissCount());
+    }
+
+    @DisplayName("같은 조건의 쿼리는 쿼리 캐시에서 가져오고, users 테이블이 수정되면 다시 조회한다.")
+    @Test
+    void findByName() {
+        userRepository.save(new User("홍길동"));
+        userRepository.findByName("홍길동");
+        statistics.clear();
+
+        assertEquals(1, userRepository.findByName("홍길동").size());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+
+        userRepository.save(new User("홍길동"));
+
+        assertEquals(2, userRepository.findByName("홍길동").size());
+        assertEquals(1, statistics.getQueryCacheMissCount());
+    }
+}
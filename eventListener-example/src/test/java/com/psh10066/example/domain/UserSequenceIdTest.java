@@ -0,0 +1,44 @@
+package com.psh10066.example.domain;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sequence-id",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("sequence-id")
+class UserSequenceIdTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @DisplayName("sequence-id 프로필에서는 User insert가 JDBC batch로 실행된다.")
+    @Test
+    void saveAll() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        userRepository.saveAll(IntStream.range(0, 100)
+                .mapToObj(i -> new User("홍길동" + i))
+                .toList());
+
+        // IDENTITY이면 insert 100번, sequence이면 batch insert 1번 + sequence 조회 몇 번
+        assertTrue(statistics.getPrepareStatementCount() < 10);
+        assertEquals(100, userRepository.count());
+    }
+}
@@ -0,0 +1,86 @@
+package com.psh10066.example.instrument;
+
+import com.psh10066.example.domain.UserRepository;
+import com.psh10066.example.service.ThrowPropagationService;
+import com.psh10066.example.service.TransactionPropagationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class InstrumentedEventListenerFactoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ThrowPropagationService throwPropagationService;
+
+    @Autowired
+    private TransactionPropagationService transactionPropagationService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EventListenersEndpoint eventListenersEndpoint;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("AFTER_COMMIT에서 발생해 service로 전파되지 않는 예외도 기록된다.")
+    @Test
+    void afterCommitError() {
+        double before = errorCount();
+
+        assertEquals("성공", throwPropagationService.transactionalEventListener_AFTER_COMMIT());
+
+        assertEquals(before + 1, errorCount());
+    }
+
+    @DisplayName("listener의 실행 시간이 phase, propagation 태그와 함께 기록된다.")
+    @Test
+    void timer() {
+        transactionPropagationService.newTransactionalEventListener_BEFORE_COMMIT();
+
+        long count = meterRegistry.get("event.listener")
+                .tag("listener", "TransactionPropagationEventListener.eventHandler(BEFORE_COMMIT_NewTransactionEvent)")
+                .tag("event", "BEFORE_COMMIT_NewTransactionEvent")
+                .tag("phase", "BEFORE_COMMIT")
+                .tag("propagation", "REQUIRES_NEW")
+                .timer()
+                .count();
+        assertTrue(count >= 1);
+    }
+
+    @DisplayName("endpoint에서 listener별 실행 횟수와 예외 수를 조회할 수 있다.")
+    @Test
+    void endpoint() {
+        throwPropagationService.transactionalEventListener_AFTER_COMMIT();
+
+        EventListenersEndpoint.ListenerStats stats = eventListenersEndpoint.listeners().stream()
+                .filter(listener -> listener.listener().equals("ThrowPropagationEventListener.eventHandler(AFTER_COMMIT_ThrowEvent)"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("AFTER_COMMIT", stats.phase());
+        assertEquals("NONE", stats.propagation());
+        assertTrue(stats.count() >= 1);
+        assertTrue(stats.errors() >= 1);
+    }
+
+    private double errorCount() {
+        return meterRegistry.find("event.listener.errors")
+                .tag("listener", "ThrowPropagationEventListener.eventHandler(AFTER_COMMIT_ThrowEvent)")
+                .counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+}
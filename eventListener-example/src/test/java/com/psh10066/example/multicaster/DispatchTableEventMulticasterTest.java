@@ -0,0 +1,115 @@
+package com.psh10066.example.multicaster;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.ResolvableTypeProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DispatchTableEventMulticasterTest {
+
+    private AnnotationConfigApplicationContext context;
+    private RecordingListener recordingListener;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME, DispatchTableEventMulticaster.class,
+                () -> new DispatchTableEventMulticaster(context.getBeanFactory()));
+        context.registerBean(RecordingListener.class);
+        context.refresh();
+        recordingListener = context.getBean(RecordingListener.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @DisplayName("이벤트 클래스에 맞는 listener만 호출된다.")
+    @Test
+    void publishEvent() {
+        context.publishEvent(new SampleEvent("1"));
+        context.publishEvent(new OtherEvent("2"));
+        context.publishEvent(new SampleEvent("3"));
+
+        assertEquals(List.of("sample 1", "other 2", "sample 3"), recordingListener.events);
+    }
+
+    @DisplayName("제네릭 이벤트는 타입 인자에 맞는 listener만 호출된다.")
+    @Test
+    void publishEvent_generic() {
+        context.publishEvent(new GenericEvent<>(SampleEvent.class));
+        context.publishEvent(new GenericEvent<>(OtherEvent.class));
+
+        assertEquals(List.of("generic SampleEvent"), recordingListener.events);
+    }
+
+    @DisplayName("listener가 추가되면 이후 발행부터 호출된다.")
+    @Test
+    void addApplicationListener() {
+        AddedListener addedListener = new AddedListener();
+        context.publishEvent(new SampleEvent("1"));
+
+        context.addApplicationListener(addedListener);
+        context.publishEvent(new SampleEvent("2"));
+
+        assertEquals(List.of(new SampleEvent("2")), addedListener.events);
+        assertEquals(List.of("sample 1", "sample 2"), recordingListener.events);
+    }
+
+    record SampleEvent(String value) {
+    }
+
+    record OtherEvent(String value) {
+    }
+
+    record GenericEvent<T>(Class<T> type) implements ResolvableTypeProvider {
+
+        @Override
+        public ResolvableType getResolvableType() {
+            return ResolvableType.forClassWithGenerics(GenericEvent.class, type);
+        }
+    }
+
+    static class AddedListener implements ApplicationListener<PayloadApplicationEvent<SampleEvent>> {
+
+        private final List<SampleEvent> events = new ArrayList<>();
+
+        @Override
+        public void onApplicationEvent(PayloadApplicationEvent<SampleEvent> event) {
+            events.add(event.getPayload());
+        }
+    }
+
+    static class RecordingListener {
+
+        private final List<String> events = new ArrayList<>();
+
+        @EventListener
+        public void on(SampleEvent event) {
+            events.add("sample " + event.value());
+        }
+
+        @EventListener
+        public void on(OtherEvent event) {
+            events.add("other " + event.value());
+        }
+
+        @EventListener
+        public void on(GenericEvent<SampleEvent> event) {
+            events.add("generic " + event.type().getSimpleName());
+        }
+    }
+}
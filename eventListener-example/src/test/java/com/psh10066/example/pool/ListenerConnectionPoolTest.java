@@ -0,0 +1,93 @@
+package com.psh10066.example.pool;
+
+import com.psh10066.example.domain.User;
+import com.psh10066.example.domain.UserRepository;
+import com.psh10066.example.service.TransactionPropagationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 기본 풀, listener 전용 풀의 커넥션이 각각 1개뿐이어도 REQUIRES_NEW listener가 실행된다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:listener-pool",
+        "spring.datasource.hikari.maximum-pool-size=1",
+        "event.listener-pool.enabled=true",
+        "event.listener-pool.hikari.maximum-pool-size=1"
+})
+class ListenerConnectionPoolTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionPropagationService transactionPropagationService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAllInBatch();
+        meterRegistry.find("event.listener.pool.nested").counters().forEach(meterRegistry::remove);
+    }
+
+    @DisplayName("BEFORE_COMMIT, REQUIRES_NEW listener는 listener 전용 풀의 커넥션으로 실행된다.")
+    @Test
+    void newTransactionalEventListener_BEFORE_COMMIT() {
+        transactionPropagationService.newTransactionalEventListener_BEFORE_COMMIT();
+
+        List<User> userList = userRepository.findAll();
+        assertEquals(2, userList.size());
+        assertEquals("dirty checking 수정", userList.get(0).getName());
+        assertEquals("listener 생성", userList.get(1).getName());
+        assertEquals(1.0, nestedCount());
+    }
+
+    @DisplayName("AFTER_COMMIT, REQUIRES_NEW listener는 listener 전용 풀의 커넥션으로 실행된다.")
+    @Test
+    void newTransactionalEventListener_AFTER_COMMIT() {
+        transactionPropagationService.newTransactionalEventListener_AFTER_COMMIT();
+
+        List<User> userList = userRepository.findAll();
+        assertEquals(2, userList.size());
+        assertEquals("listener 생성", userList.get(1).getName());
+        assertEquals(1.0, nestedCount());
+    }
+
+    @DisplayName("동시 요청 수가 풀 크기보다 많아도 모든 요청이 끝난다.")
+    @Test
+    void newTransactionalEventListener_BEFORE_COMMIT_concurrent() throws Exception {
+        int requestCount = 16;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> futures = IntStream.range(0, requestCount)
+                    .<Future<?>>mapToObj(i -> executor.submit(transactionPropagationService::newTransactionalEventListener_BEFORE_COMMIT))
+                    .toList();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertEquals(requestCount * 2, userRepository.count());
+        assertEquals(requestCount, nestedCount());
+    }
+
+    private double nestedCount() {
+        return meterRegistry.find("event.listener.pool.nested").counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+}
@@ -0,0 +1,58 @@
+package com.psh10066.example.pool;
+
+import com.psh10066.example.domain.User;
+import com.psh10066.example.domain.UserRepository;
+import com.psh10066.example.service.TransactionPropagationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * listener 전용 풀 없이 커넥션이 1개뿐이면, 바깥 트랜잭션이 커넥션을 가진 채 REQUIRES_NEW listener가 두 번째 커넥션을 기다리다 실패한다.
+ * (동시 요청 수가 풀 크기에 도달했을 때와 같은 상황)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:pool-starvation",
+        "spring.datasource.hikari.maximum-pool-size=1",
+        "spring.datasource.hikari.connection-timeout=250",
+        "event.listener-pool.enabled=false"
+})
+class PoolStarvationTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionPropagationService transactionPropagationService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("BEFORE_COMMIT, REQUIRES_NEW listener가 커넥션을 얻지 못해 service도 롤백된다.")
+    @Test
+    void newTransactionalEventListener_BEFORE_COMMIT() {
+        assertThrows(CannotCreateTransactionException.class, () -> transactionPropagationService.newTransactionalEventListener_BEFORE_COMMIT());
+
+        assertEquals(0, userRepository.count());
+    }
+
+    @DisplayName("AFTER_COMMIT, REQUIRES_NEW listener가 커넥션을 얻지 못해 listener의 저장이 누락된다.")
+    @Test
+    void newTransactionalEventListener_AFTER_COMMIT() {
+        transactionPropagationService.newTransactionalEventListener_AFTER_COMMIT();
+
+        List<User> userList = userRepository.findAll();
+        assertEquals(1, userList.size());
+        assertEquals("service 생성", userList.get(0).getName());
+    }
+}
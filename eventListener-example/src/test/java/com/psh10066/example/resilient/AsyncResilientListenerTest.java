@@ -0,0 +1,130 @@
+package com.psh10066.example.resilient;
+
+import com.psh10066.example.async.AsyncListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * {@code @AsyncListener}와 {@code @ResilientListener}가 함께 붙은 listener의 dead letter 재실행
+ */
+@SpringBootTest(properties = {
+        "event.async.enabled=true",
+        "event.resilient.enabled=true"
+})
+class AsyncResilientListenerTest {
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Autowired
+    private DeadLetterEventRepository deadLetterEventRepository;
+
+    @Autowired
+    private DeadLetterService deadLetterService;
+
+    @Autowired
+    private AsyncFlakyListener asyncFlakyListener;
+
+    @BeforeEach
+    void setUp() {
+        deadLetterEventRepository.deleteAllInBatch();
+        asyncFlakyListener.reset(0);
+    }
+
+    @DisplayName("dead letter를 재실행하면 호출한 스레드에서 실행하고, 성공하면 재실행 시간을 저장한다.")
+    @Test
+    void replay() {
+        Long id = deadLetter(new AsyncFlakyEvent("재실행"));
+
+        asyncFlakyListener.failures(0);
+        DeadLetterEvent deadLetterEvent = deadLetterService.replay(id);
+
+        assertNotNull(deadLetterEvent.getReplayedAt());
+        assertEquals(List.of(new AsyncFlakyEvent("재실행")), asyncFlakyListener.handled());
+    }
+
+    @DisplayName("dead letter를 재실행해서 실패하면 재실행 시간을 저장하지 않고, 재시도나 새 dead letter도 만들지 않는다.")
+    @Test
+    void replay_fail() {
+        Long id = deadLetter(new AsyncFlakyEvent("재실행 실패"));
+
+        DeadLetterEvent deadLetterEvent = deadLetterService.replay(id);
+
+        assertNull(deadLetterEvent.getReplayedAt());
+        assertEquals(4, deadLetterEvent.getAttempts());
+        assertEquals(4, asyncFlakyListener.attempts());
+        assertEquals(1, deadLetterEventRepository.count());
+    }
+
+    private Long deadLetter(AsyncFlakyEvent event) {
+        asyncFlakyListener.failures(Integer.MAX_VALUE);
+        applicationEventPublisher.publishEvent(event);
+        await().atMost(Duration.ofSeconds(5)).until(() -> deadLetterEventRepository.count() == 1);
+        return deadLetterEventRepository.findAll().get(0).getId();
+    }
+
+    record AsyncFlakyEvent(String value) {
+    }
+
+    static class AsyncFlakyListener {
+
+        private final AtomicInteger remainingFailures = new AtomicInteger();
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final List<AsyncFlakyEvent> handled = new CopyOnWriteArrayList<>();
+
+        @AsyncListener
+        @ResilientListener(initialDelay = 10, multiplier = 1)
+        @EventListener
+        public void handle(AsyncFlakyEvent event) {
+            attempts.incrementAndGet();
+            if (remainingFailures.getAndDecrement() > 0) {
+                throw new IllegalStateException("실패 : " + event.value());
+            }
+            handled.add(event);
+        }
+
+        public void reset(int failures) {
+            remainingFailures.set(failures);
+            attempts.set(0);
+            handled.clear();
+        }
+
+        public void failures(int failures) {
+            remainingFailures.set(failures);
+        }
+
+        public int attempts() {
+            return attempts.get();
+        }
+
+        public List<AsyncFlakyEvent> handled() {
+            return List.copyOf(handled);
+        }
+    }
+
+    @TestConfiguration
+    static class AsyncFlakyListenerConfig {
+
+        @Bean
+        public AsyncFlakyListener asyncFlakyListener() {
+            return new AsyncFlakyListener();
+        }
+    }
+}
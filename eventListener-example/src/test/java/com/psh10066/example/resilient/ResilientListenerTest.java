@@ -0,0 +1,171 @@
+package com.psh10066.example.resilient;
+
+import com.psh10066.example.listener.ThrowPropagationEventListener;
+import com.psh10066.example.service.ThrowPropagationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "event.resilient.enabled=true")
+@AutoConfigureMockMvc
+class ResilientListenerTest {
+
+    @Autowired
+    private ThrowPropagationService throwPropagationService;
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Autowired
+    private DeadLetterEventRepository deadLetterEventRepository;
+
+    @Autowired
+    private DeadLetterService deadLetterService;
+
+    @Autowired
+    private FlakyListener flakyListener;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        deadLetterEventRepository.deleteAllInBatch();
+        flakyListener.reset(0);
+    }
+
+    @DisplayName("재시도 중 성공하면 dead letter로 저장하지 않는다.")
+    @Test
+    void retry() {
+        flakyListener.failures(2);
+
+        applicationEventPublisher.publishEvent(new FlakyEvent("재시도"));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> flakyListener.handled().size() == 1);
+        assertEquals(3, flakyListener.attempts());
+        assertEquals(0, deadLetterEventRepository.count());
+    }
+
+    @DisplayName("AFTER_COMMIT listener가 계속 실패해도 service는 성공하고, 재시도를 모두 실패하면 dead letter로 저장한다.")
+    @Test
+    void transactionalEventListener_AFTER_COMMIT() {
+        String result = throwPropagationService.transactionalEventListener_AFTER_COMMIT();
+
+        assertEquals("성공", result);
+        await().atMost(Duration.ofSeconds(10)).until(() -> deadLetterEventRepository.count() == 1);
+
+        DeadLetterEvent deadLetterEvent = deadLetterEventRepository.findAll().get(0);
+        assertEquals(ThrowPropagationEventListener.class.getName(), deadLetterEvent.getBeanType());
+        assertEquals(3, deadLetterEvent.getAttempts());
+        assertNull(deadLetterEvent.getReplayedAt());
+    }
+
+    @DisplayName("dead letter를 재실행해서 성공하면 재실행 시간을 저장한다.")
+    @Test
+    void replay() throws Exception {
+        flakyListener.failures(Integer.MAX_VALUE);
+        applicationEventPublisher.publishEvent(new FlakyEvent("재실행"));
+        await().atMost(Duration.ofSeconds(5)).until(() -> deadLetterEventRepository.count() == 1);
+        Long id = deadLetterEventRepository.findAll().get(0).getId();
+
+        flakyListener.failures(0);
+        mockMvc.perform(post("/dead-letters/{id}/replay", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.attempts").value(4))
+                .andExpect(jsonPath("$.replayedAt").isNotEmpty());
+
+        assertEquals(List.of(new FlakyEvent("재실행")), flakyListener.handled());
+        assertEquals(List.of(), deadLetterService.findAll());
+    }
+
+    @DisplayName("dead letter를 재실행해서 실패하면 재시도하지 않고 실행 횟수만 늘린다.")
+    @Test
+    void replay_fail() {
+        flakyListener.failures(Integer.MAX_VALUE);
+        applicationEventPublisher.publishEvent(new FlakyEvent("재실행 실패"));
+        await().atMost(Duration.ofSeconds(5)).until(() -> deadLetterEventRepository.count() == 1);
+        Long id = deadLetterEventRepository.findAll().get(0).getId();
+
+        DeadLetterEvent deadLetterEvent = deadLetterService.replay(id);
+
+        assertEquals(4, deadLetterEvent.getAttempts());
+        assertEquals(4, flakyListener.attempts());
+        assertNull(deadLetterEvent.getReplayedAt());
+        assertNotNull(deadLetterEvent.getLastError());
+    }
+
+    @DisplayName("없는 dead letter를 재실행하면 404를 응답한다.")
+    @Test
+    void replay_notFound() throws Exception {
+        mockMvc.perform(post("/dead-letters/{id}/replay", -1L))
+                .andExpect(status().isNotFound());
+    }
+
+    record FlakyEvent(String value) {
+    }
+
+    static class FlakyListener {
+
+        private final AtomicInteger remainingFailures = new AtomicInteger();
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final List<FlakyEvent> handled = new CopyOnWriteArrayList<>();
+
+        @ResilientListener(initialDelay = 10, multiplier = 1)
+        @EventListener
+        public void handle(FlakyEvent event) {
+            attempts.incrementAndGet();
+            if (remainingFailures.getAndDecrement() > 0) {
+                throw new IllegalStateException("실패 : " + event.value());
+            }
+            handled.add(event);
+        }
+
+        public void reset(int failures) {
+            remainingFailures.set(failures);
+            attempts.set(0);
+            handled.clear();
+        }
+
+        public void failures(int failures) {
+            remainingFailures.set(failures);
+        }
+
+        public int attempts() {
+            return attempts.get();
+        }
+
+        public List<FlakyEvent> handled() {
+            return List.copyOf(handled);
+        }
+    }
+
+    @TestConfiguration
+    static class FlakyListenerConfig {
+
+        @Bean
+        public FlakyListener flakyListener() {
+            return new FlakyListener();
+        }
+    }
+}
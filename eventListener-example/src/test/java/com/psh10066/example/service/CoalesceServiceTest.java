@@ -0,0 +1,90 @@
+package com.psh10066.example.service;
+
+import com.psh10066.example.coalesce.CoalescedEvents;
+import com.psh10066.example.domain.User;
+import com.psh10066.example.domain.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class CoalesceServiceTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CoalesceService coalesceService;
+
+    @Autowired
+    private CoalescedEventsRecorder coalescedEventsRecorder;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAllInBatch();
+        coalescedEventsRecorder.sizes.clear();
+    }
+
+    @DisplayName("BEFORE_COMMIT에 한 트랜잭션에서 발행된 이벤트를 한 번에 처리한다.")
+    @Test
+    void coalesce_BEFORE_COMMIT() {
+        coalesceService.coalesce_BEFORE_COMMIT(3);
+
+        assertEquals(List.of(3), coalescedEventsRecorder.sizes);
+
+        List<User> userList = userRepository.findAll();
+        assertEquals(6, userList.size());
+        assertEquals(3, userList.stream().filter(user -> user.getName().equals("listener 생성")).count());
+    }
+
+    @DisplayName("AFTER_COMMIT에 한 트랜잭션에서 발행된 이벤트를 한 번에 처리한다.")
+    @Test
+    void coalesce_AFTER_COMMIT() {
+        coalesceService.coalesce_AFTER_COMMIT(3);
+
+        assertEquals(List.of(3), coalescedEventsRecorder.sizes);
+
+        List<User> userList = userRepository.findAll();
+        assertEquals(6, userList.size());
+        assertEquals(3, userList.stream().filter(user -> user.getName().equals("listener 생성")).count());
+    }
+
+    @DisplayName("트랜잭션이 롤백되면 모은 이벤트는 발행되지 않는다.")
+    @Test
+    void coalesce_ROLLBACK() {
+        assertThrows(RuntimeException.class, () -> coalesceService.coalesce_ROLLBACK(3));
+
+        assertEquals(List.of(), coalescedEventsRecorder.sizes);
+        assertEquals(0, userRepository.count());
+    }
+
+    @TestConfiguration
+    static class CoalescedEventsRecorderConfig {
+
+        @Bean
+        public CoalescedEventsRecorder coalescedEventsRecorder() {
+            return new CoalescedEventsRecorder();
+        }
+    }
+
+    static class CoalescedEventsRecorder {
+
+        private final List<Integer> sizes = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        public void record(CoalescedEvents<?> events) {
+            sizes.add(events.events().size());
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.psh10066.example.service;
+
+import com.psh10066.example.domain.User;
+import com.psh10066.example.domain.UserRepository;
+import com.psh10066.example.event.OUTBOX_ThrowEvent;
+import com.psh10066.example.event.OUTBOX_UserCreatedEvent;
+import com.psh10066.example.outbox.OutboxEventPublisher;
+import com.psh10066.example.outbox.OutboxMessage;
+import com.psh10066.example.outbox.OutboxMessageRepository;
+import com.psh10066.example.outbox.OutboxRelay;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "event.outbox.relay.batch-size=2",
+        "event.outbox.relay.max-attempts=3"
+})
+class OutboxServiceTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxEventPublisher outboxEventPublisher;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        outboxMessageRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("service의 트랜잭션이 커밋되면 이벤트가 outbox에 저장되고, relay 시 listener가 실행된다.")
+    @Test
+    void outbox() {
+        outboxService.outbox();
+
+        assertEquals(1, userRepository.count());
+        assertEquals(1, outboxMessageRepository.countByPublishedAtIsNull());
+
+        assertEquals(1, outboxRelay.relayAll());
+
+        List<User> userList = userRepository.findAll();
+        assertEquals(2, userList.size());
+        assertEquals("service 생성", userList.get(0).getName());
+        assertEquals("listener 생성", userList.get(1).getName());
+        assertEquals(0, outboxMessageRepository.countByPublishedAtIsNull());
+    }
+
+    @DisplayName("service의 트랜잭션이 롤백되면 이벤트도 outbox에 저장되지 않는다.")
+    @Test
+    void outbox_ROLLBACK() {
+        assertThrows(RuntimeException.class, () -> outboxService.outbox_ROLLBACK());
+
+        assertEquals(0, userRepository.count());
+        assertEquals(0, outboxMessageRepository.count());
+    }
+
+    @DisplayName("트랜잭션 밖에서는 outbox에 저장할 수 없다.")
+    @Test
+    void publish_noTransactional() {
+        assertThrows(IllegalTransactionStateException.class,
+                () -> outboxEventPublisher.publish("User", 1L, new OUTBOX_UserCreatedEvent(1L, "홍길동")));
+    }
+
+    @DisplayName("listener에서 예외가 발생하면 같은 aggregate의 이후 이벤트는 발행하지 않는다.")
+    @Test
+    void relay_throw() {
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxEventPublisher.publish("User", 1L, new OUTBOX_ThrowEvent(1L));
+            outboxEventPublisher.publish("User", 1L, new OUTBOX_UserCreatedEvent(1L, "홍길동1"));
+            outboxEventPublisher.publish("User", 2L, new OUTBOX_UserCreatedEvent(2L, "홍길동2"));
+        });
+
+        assertEquals(1, outboxRelay.relayAll());
+
+        assertEquals(1, userRepository.count());
+        assertEquals(2, outboxMessageRepository.countByPublishedAtIsNull());
+    }
+
+    @DisplayName("실패한 aggregate의 이벤트가 batch를 채워도 다른 aggregate의 이벤트는 발행한다.")
+    @Test
+    void relay_throw_batch() {
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxEventPublisher.publish("User", 1L, new OUTBOX_ThrowEvent(1L));
+            outboxEventPublisher.publish("User", 1L, new OUTBOX_UserCreatedEvent(1L, "홍길동1"));
+            outboxEventPublisher.publish("User", 1L, new OUTBOX_UserCreatedEvent(1L, "홍길동1"));
+            outboxEventPublisher.publish("User", 2L, new OUTBOX_UserCreatedEvent(2L, "홍길동2"));
+        });
+
+        assertEquals(1, outboxRelay.relayAll());
+
+        assertEquals(1, userRepository.count());
+        assertEquals(3, outboxMessageRepository.countByPublishedAtIsNull());
+    }
+
+    @DisplayName("max-attempts번 실패한 이벤트는 보류하고, 같은 aggregate의 이후 이벤트는 unpark 전까지 조회하지 않는다.")
+    @Test
+    void relay_park() {
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxEventPublisher.publish("User", 1L, new OUTBOX_ThrowEvent(1L));
+            outboxEventPublisher.publish("User", 1L, new OUTBOX_UserCreatedEvent(1L, "홍길동1"));
+        });
+        Long throwId = outboxMessageRepository.findUnpublished(0, PageRequest.ofSize(1)).get(0).getId();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, outboxRelay.relayAll());
+        }
+
+        OutboxMessage parked = outboxMessageRepository.findById(throwId).orElseThrow();
+        assertEquals(3, parked.getAttempts());
+        assertNotNull(parked.getParkedAt());
+        assertNotNull(parked.getLastError());
+        assertEquals(List.of(), outboxMessageRepository.findUnpublished(0, PageRequest.ofSize(2)));
+
+        assertTrue(outboxRelay.unpark(throwId));
+        assertEquals(0, outboxMessageRepository.countByParkedAtIsNotNull());
+        assertEquals(2, outboxMessageRepository.findUnpublished(0, PageRequest.ofSize(2)).size());
+    }
+}
@@ -0,0 +1,107 @@
+package com.psh10066.example.service;
+
+import com.psh10066.example.coalesce.CoalescedEvents;
+import com.psh10066.example.domain.User;
+import com.psh10066.example.domain.UserRepository;
+import com.psh10066.example.domain.UserSnapshot;
+import com.psh10066.example.event.SNAPSHOT_AFTER_COMMIT_UserEvent;
+import com.psh10066.example.listener.SnapshotEventListener;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:snapshot",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class SnapshotServiceTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SnapshotService snapshotService;
+
+    @Autowired
+    private SnapshotEventListener snapshotEventListener;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAllInBatch();
+        entityManagerFactory.getCache().evict(User.class);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @DisplayName("AFTER_COMMIT, REQUIRES_NEW listener에서 이벤트의 User를 merge하면 이벤트마다 조회와 수정을 실행한다.")
+    @Test
+    void merge_AFTER_COMMIT() {
+        snapshotService.merge_AFTER_COMMIT(3);
+
+        // insert 3번 + select 3번 + update 3번 (IDENTITY로 insert한 User는 2차 캐시에 저장되지 않는다.)
+        assertEquals(3, statistics.getSecondLevelCacheMissCount());
+        assertEquals(9, statistics.getPrepareStatementCount());
+        assertUpdated(3);
+    }
+
+    @DisplayName("AFTER_COMMIT, REQUIRES_NEW listener에서 스냅샷의 id로 수정하면 이벤트마다 update만 실행한다.")
+    @Test
+    void snapshot_AFTER_COMMIT() {
+        snapshotService.snapshot_AFTER_COMMIT(3);
+
+        // insert 3번 + update 3번
+        assertEquals(6, statistics.getPrepareStatementCount());
+        assertUpdated(3);
+    }
+
+    @DisplayName("스냅샷을 모아서 발행하면 update ... where id in 한 번으로 수정한다.")
+    @Test
+    void snapshotCoalesce_AFTER_COMMIT() {
+        snapshotService.snapshotCoalesce_AFTER_COMMIT(3);
+
+        // insert 3번 + update 1번
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertUpdated(3);
+    }
+
+    @DisplayName("모아서 발행한 스냅샷의 값이 다르면 값마다 update ... where id in을 실행하고, 같은 User는 마지막 값으로 수정한다.")
+    @Test
+    void snapshotCoalesce_values() {
+        List<User> users = userRepository.saveAll(List.of(new User("service 생성"), new User("service 생성"), new User("service 생성")));
+        statistics.clear();
+
+        snapshotEventListener.afterCommitHandler(new CoalescedEvents<>(SNAPSHOT_AFTER_COMMIT_UserEvent.class, List.of(
+                new SNAPSHOT_AFTER_COMMIT_UserEvent(new UserSnapshot(users.get(0).getId(), "수정 A")),
+                new SNAPSHOT_AFTER_COMMIT_UserEvent(new UserSnapshot(users.get(1).getId(), "수정 B")),
+                new SNAPSHOT_AFTER_COMMIT_UserEvent(new UserSnapshot(users.get(2).getId(), "수정 A")),
+                new SNAPSHOT_AFTER_COMMIT_UserEvent(new UserSnapshot(users.get(0).getId(), "수정 B"))
+        )));
+
+        // "수정 B" update 1번 + "수정 A" update 1번
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(List.of("수정 B", "수정 B", "수정 A"), users.stream()
+                .map(user -> userRepository.findById(user.getId()).orElseThrow().getName())
+                .toList());
+    }
+
+    private void assertUpdated(int count) {
+        List<User> userList = userRepository.findAll();
+        assertEquals(count, userList.size());
+        assertTrue(userList.stream().allMatch(user -> user.getName().equals("listener 수정")));
+    }
+}
@@ -0,0 +1,67 @@
+package com.psh10066.exceptionexample;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실패 응답을 받는 데 걸리는 시간 비교
+ * <p>
+ * handler=true : GlobalExceptionHandler가 ErrorBodies의 본문으로 응답
+ * handler=false : GlobalExceptionHandler 없이 /error로 forward해서 BasicErrorController가 응답
+ * <p>
+ * /entity/1은 미리 직렬화한 본문, /param?param=은 필드 이름을 넣은 본문으로 응답한다.
+ * -prof gc의 gc.alloc.rate.norm으로 요청 1회당 할당량을 확인한다. (클라이언트도 같은 JVM에서 실행되므로 클라이언트의 할당량도 포함된다.)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ErrorResponseBenchmark {
+
+    @Param({"true", "false"})
+    public boolean handler;
+
+    @Param({"/entity/1", "/param?param="})
+    public String path;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SpringApplication.run(
+            ExceptionExampleApplication.class,
+            "--server.port=0",
+            "--spring.main.banner-mode=off",
+            "--logging.level.root=warn",
+            "--exception.handler.enabled=" + handler
+        );
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port") + path))
+            .GET()
+            .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] error() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() < 400) {
+            throw new IllegalStateException("실패 응답이 아님 : " + response.statusCode());
+        }
+        return response.body();
+    }
+}
@@ -0,0 +1,46 @@
+package com.psh10066.exceptionexample;
+
+import com.psh10066.exceptionexample.exception.ErrorCode;
+import com.psh10066.exceptionexample.exception.NotFoundException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호출 깊이가 depth인 위치에서 예외를 던지고 잡는 시간 비교
+ * <p>
+ * stackTrace : stack trace를 채우는 IllegalStateException (기존 getById)
+ * stackless : stack trace를 채우지 않는 NotFoundException
+ * <p>
+ * stack trace를 채우는 비용은 호출 깊이에 비례하므로, 요청 처리 중인 스레드처럼 깊은 위치에서 차이가 커진다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExceptionBenchmark {
+
+    @Param({"stackTrace", "stackless"})
+    public String mode;
+
+    @Param({"0", "100"})
+    public int depth;
+
+    @Benchmark
+    public String throwAndCatch() {
+        try {
+            return call(depth);
+        } catch (IllegalStateException e) {
+            return e.getMessage();
+        }
+    }
+
+    private String call(int remaining) {
+        if (remaining > 0) {
+            return call(remaining - 1);
+        }
+        if (mode.equals("stackTrace")) {
+            throw new IllegalStateException(ErrorCode.ENTITY_NOT_FOUND.getMessage());
+        }
+        throw new NotFoundException(ErrorCode.ENTITY_NOT_FOUND);
+    }
+}
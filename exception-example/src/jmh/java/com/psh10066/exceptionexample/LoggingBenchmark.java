@@ -0,0 +1,82 @@
+package com.psh10066.exceptionexample;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * logging.level.root=debug로 8개 스레드에서 동시에 /param을 호출할 때의 처리량 비교
+ * <p>
+ * default : 요청 스레드에서 콘솔에 바로 출력
+ * async-logging : 별도 스레드에서 JSON으로 출력하고, 큐가 거의 차면 DEBUG 이벤트를 버림
+ * <p>
+ * 콘솔 출력은 임시 파일로 보내고, 반복마다 출력한 크기를 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class LoggingBenchmark {
+
+    @Param({"default", "async-logging"})
+    public String profile;
+
+    private PrintStream out;
+    private Path logFile;
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        out = System.out;
+        logFile = Files.createTempFile("logging-benchmark", ".log");
+        System.setOut(new PrintStream(new BufferedOutputStream(new FileOutputStream(logFile.toFile())), true));
+
+        context = SpringApplication.run(
+            ExceptionExampleApplication.class,
+            "--server.port=0",
+            "--spring.main.banner-mode=off",
+            "--logging.level.root=debug",
+            "--spring.profiles.active=" + profile
+        );
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/param?param=value"))
+            .GET()
+            .build();
+    }
+
+    @TearDown(Level.Iteration)
+    public void printLogSize() throws IOException {
+        out.printf("%n%s : 콘솔 출력 %dKB%n", profile, Files.size(logFile) / 1024);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        httpClient.close();
+        context.close();
+        System.setOut(out);
+        Files.delete(logFile);
+    }
+
+    @Benchmark
+    public String param() throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("요청 실패 : " + response.statusCode());
+        }
+        return response.body();
+    }
+}
@@ -0,0 +1,77 @@
+package com.psh10066.exceptionexample;
+
+import com.psh10066.exceptionexample.repository.ExampleRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * H2에서 count개의 id로 Entity를 조회하는 방식별 시간 비교
+ * <p>
+ * getById : id마다 getById (count번 조회)
+ * getAllByIds : getAllByIds (batch-size개씩 in 조건으로 조회)
+ * cached : 같은 요청 안에서 getAllByIds 후 id마다 getById (getById는 ExampleLookupCache에서 반환)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LookupBenchmark {
+
+    @Param({"getById", "getAllByIds", "cached"})
+    public String mode;
+
+    @Param({"10", "1000"})
+    public int count;
+
+    private ConfigurableApplicationContext context;
+    private ExampleRepository exampleRepository;
+    private List<Long> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SpringApplication.run(
+            ExceptionExampleApplication.class,
+            "--server.port=0", // ExampleLookupCache의 request scope를 사용하기 위해 웹 애플리케이션으로 실행
+            "--spring.main.banner-mode=off",
+            "--spring.datasource.url=jdbc:h2:mem:" + UUID.randomUUID(),
+            "--logging.level.root=warn"
+        );
+        exampleRepository = context.getBean(ExampleRepository.class);
+        ids = LongStream.rangeClosed(1, count).boxed().toList();
+        context.getBean(ExampleJpaRepository.class).saveAll(ids.stream().map(ExampleEntity::new).toList());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object lookup() {
+        switch (mode) {
+            case "getById" -> {
+                return ids.stream().map(exampleRepository::getById).toList();
+            }
+            case "getAllByIds" -> {
+                return exampleRepository.getAllByIds(ids);
+            }
+            default -> {
+                RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+                try {
+                    exampleRepository.getAllByIds(ids);
+                    return ids.stream().map(exampleRepository::getById).toList();
+                } finally {
+                    RequestContextHolder.resetRequestAttributes();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.psh10066.exceptionexample;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * /part/stream으로 size 크기의 파일을 업로드하는 시간과 힙 사용량
+ * <p>
+ * 힙을 256MB로 제한하고 실행하므로 1GB 업로드가 성공하면 파일 전체를 메모리에 올리지 않은 것이다.
+ * 반복마다 힙 메모리 풀별 최대 사용량의 합을 출력하고, -prof gc의 gc.alloc.rate.norm으로 업로드 1회당 할당량을 확인한다.
+ * (클라이언트도 같은 JVM에서 실행되므로 클라이언트의 사용량도 포함된다.)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StreamingUploadBenchmark {
+
+    private static final String BOUNDARY = "benchmark-boundary";
+
+    @Param({"64MB", "1GB"})
+    public String size;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private URI uri;
+    private Path directory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("upload-benchmark");
+        context = SpringApplication.run(
+            ExceptionExampleApplication.class,
+            "--server.port=0",
+            "--spring.main.banner-mode=off",
+            "--logging.level.root=warn",
+            "--upload.directory=" + directory
+        );
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        uri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/part/stream");
+    }
+
+    @Setup(Level.Iteration)
+    public void resetPeakUsage() {
+        heapPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    @TearDown(Level.Iteration)
+    public void printPeakUsage() throws IOException {
+        long peak = heapPools().stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        System.out.printf("%nsize=%s : 힙 최대 사용량 %dMB%n", size, peak / 1024 / 1024);
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        httpClient.close();
+        context.close();
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public String upload() throws IOException, InterruptedException {
+        long contentLength = DataSize.parse(size).toBytes();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+            .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+            .POST(HttpRequest.BodyPublishers.ofInputStream(() -> multipartBody(contentLength)))
+            .build();
+
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("업로드 실패 : " + response.statusCode() + " " + response.body());
+        }
+        return response.body();
+    }
+
+    private static List<MemoryPoolMXBean> heapPools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .toList();
+    }
+
+    private static InputStream multipartBody(long contentLength) {
+        String header = "--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"file\"; filename=\"benchmark.bin\"\r\n"
+            + "Content-Type: application/octet-stream\r\n\r\n";
+        String footer = "\r\n--" + BOUNDARY + "--\r\n";
+        return new SequenceInputStream(
+            new SequenceInputStream(new ByteArrayInputStream(header.getBytes(StandardCharsets.UTF_8)), new RepeatingInputStream(contentLength)),
+            new ByteArrayInputStream(footer.getBytes(StandardCharsets.UTF_8))
+        );
+    }
+
+    /**
+     * 메모리에 올리지 않고 length 크기의 본문을 만든다.
+     */
+    private static class RepeatingInputStream extends InputStream {
+
+        private long remaining;
+
+        RepeatingInputStream(long length) {
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() {
+            if (remaining == 0) {
+                return -1;
+            }
+            remaining--;
+            return 'a';
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (remaining == 0) {
+                return -1;
+            }
+            int n = (int) Math.min(len, remaining);
+            Arrays.fill(b, off, off + n, (byte) 'a');
+            remaining -= n;
+            return n;
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package com.psh10066.exceptionexample.controller;
 
+import com.psh10066.exceptionexample.repository.ExampleComponent;
+import com.psh10066.exceptionexample.upload.StreamingUploader;
+import com.psh10066.exceptionexample.upload.UploadConfig;
+import com.psh10066.exceptionexample.upload.UploadedFile;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -8,12 +13,18 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.multipart.support.MissingServletRequestPartException;
+
+import java.io.IOException;
 
 @Validated
 @RestController
 @RequiredArgsConstructor
 public class ExampleController {
 
+    private final ExampleComponent exampleComponent;
+    private final StreamingUploader streamingUploader;
+
     @GetMapping(value = "/param")
     public String paramAPI(@RequestParam @NotBlank String param) {
         return param;
@@ -24,6 +35,11 @@ public class ExampleController {
         return value;
     }
 
+    @GetMapping(value = "/entity/{id}")
+    public Long entityAPI(@PathVariable Long id) {
+        return exampleComponent.getById(id).getId();
+    }
+
     @PostMapping(value = "/part")
     public MultipartFile partAPI(@RequestPart MultipartFile file) {
         return file;
@@ -34,6 +50,11 @@ public class ExampleController {
         return file;
     }
 
+    @PostMapping(value = UploadConfig.STREAMING_PATH)
+    public UploadedFile partStreamAPI(HttpServletRequest request) throws IOException, MissingServletRequestPartException {
+        return streamingUploader.upload(request, "file");
+    }
+
     @PostMapping(value = "/body")
     public Integer bodyAPI(@Validated @RequestBody ExampleRequest body) {
         return body.getValue();
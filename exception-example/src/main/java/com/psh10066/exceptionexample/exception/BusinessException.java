@@ -0,0 +1,30 @@
+package com.psh10066.exceptionexample.exception;
+
+import lombok.Getter;
+
+/**
+ * 예상 가능한 실패를 나타내는 예외
+ * <p>
+ * 호출 위치가 아닌 ErrorCode로 원인을 구분하므로 stack trace를 채우지 않는다.
+ * 기존 코드와의 호환을 위해 IllegalStateException을 상속한다.
+ */
+@Getter
+public class BusinessException extends IllegalStateException {
+
+    private final ErrorCode errorCode;
+
+    public BusinessException(ErrorCode errorCode) {
+        super(errorCode.getMessage());
+        this.errorCode = errorCode;
+    }
+
+    public BusinessException(ErrorCode errorCode, String message) {
+        super(message);
+        this.errorCode = errorCode;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,19 @@
+package com.psh10066.exceptionexample.exception;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 여러 id를 조회했을 때 존재하지 않는 id를 모두 담는다.
+ */
+@Getter
+public class EntitiesNotFoundException extends NotFoundException {
+
+    private final List<Long> missingIds;
+
+    public EntitiesNotFoundException(List<Long> missingIds) {
+        super(ErrorCode.ENTITY_NOT_FOUND, ErrorCode.ENTITY_NOT_FOUND.getMessage() + " " + missingIds);
+        this.missingIds = List.copyOf(missingIds);
+    }
+}
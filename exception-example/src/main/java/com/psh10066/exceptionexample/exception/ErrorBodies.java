@@ -0,0 +1,55 @@
+package com.psh10066.exceptionexample.exception;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * ErrorCode별 JSON 응답 본문({"code":"...","message":"..."})
+ * <p>
+ * 메시지가 고정된 응답은 미리 직렬화한 byte[]를 그대로 사용하고,
+ * 필드 이름 등이 들어간 메시지만 미리 만든 앞부분 뒤에 이스케이프한 메시지를 이어 붙인다.
+ */
+public final class ErrorBodies {
+
+    private static final byte[] SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
+    private static final Map<ErrorCode, byte[]> PREFIXES = new EnumMap<>(ErrorCode.class);
+    private static final Map<ErrorCode, byte[]> BODIES = new EnumMap<>(ErrorCode.class);
+
+    static {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            byte[] prefix = ("{\"code\":\"" + errorCode.name() + "\",\"message\":\"").getBytes(StandardCharsets.UTF_8);
+            PREFIXES.put(errorCode, prefix);
+            BODIES.put(errorCode, concat(prefix, escape(errorCode.getMessage())));
+        }
+    }
+
+    private ErrorBodies() {
+    }
+
+    /**
+     * 캐시된 본문이므로 수정하지 않는다.
+     */
+    public static byte[] of(ErrorCode errorCode) {
+        return BODIES.get(errorCode);
+    }
+
+    public static byte[] of(ErrorCode errorCode, String message) {
+        return concat(PREFIXES.get(errorCode), escape(message));
+    }
+
+    private static byte[] escape(String message) {
+        return JsonStringEncoder.getInstance().quoteAsUTF8(message);
+    }
+
+    private static byte[] concat(byte[] prefix, byte[] message) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(prefix.length + message.length + SUFFIX.length);
+        body.writeBytes(prefix);
+        body.writeBytes(message);
+        body.writeBytes(SUFFIX);
+        return body.toByteArray();
+    }
+}
@@ -0,0 +1,19 @@
+package com.psh10066.exceptionexample.exception;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum ErrorCode {
+
+    INVALID_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다."),
+    INVALID_REQUEST_BODY(HttpStatus.BAD_REQUEST, "요청 본문을 읽을 수 없습니다."),
+    MISSING_PARAMETER(HttpStatus.BAD_REQUEST, "필수 값이 존재하지 않습니다."),
+    TYPE_MISMATCH(HttpStatus.BAD_REQUEST, "값의 형식이 올바르지 않습니다."),
+    ENTITY_NOT_FOUND(HttpStatus.NOT_FOUND, "Entity가 존재하지 않습니다.");
+
+    private final HttpStatus status;
+    private final String message;
+}
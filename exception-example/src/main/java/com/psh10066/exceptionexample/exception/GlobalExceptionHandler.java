@@ -0,0 +1,97 @@
+package com.psh10066.exceptionexample.exception;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Path;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.multipart.support.MissingServletRequestPartException;
+
+import java.util.stream.Collectors;
+
+/**
+ * 예외 종류별로 ErrorCode를 정해 ErrorBodies의 JSON 본문으로 응답한다.
+ * <p>
+ * 예상 가능한 실패는 stack trace 없이 메시지만 로그로 남긴다.
+ * exception.handler.enabled=false이면 등록하지 않으므로 Spring 기본 처리(/error)로 응답한다.
+ */
+@Slf4j
+@RestControllerAdvice
+@ConditionalOnProperty(name = "exception.handler.enabled", havingValue = "true", matchIfMissing = true)
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(BusinessException.class)
+    public ResponseEntity<byte[]> handleBusinessException(BusinessException e) {
+        return response(e.getErrorCode(), e.getMessage(), ErrorBodies.of(e.getErrorCode()));
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<byte[]> handleHttpMessageNotReadableException(HttpMessageNotReadableException e) {
+        return response(ErrorCode.INVALID_REQUEST_BODY, e.getMessage(), ErrorBodies.of(ErrorCode.INVALID_REQUEST_BODY));
+    }
+
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    public ResponseEntity<byte[]> handleMissingServletRequestParameterException(MissingServletRequestParameterException e) {
+        return fieldResponse(ErrorCode.MISSING_PARAMETER, e.getParameterName());
+    }
+
+    @ExceptionHandler(MissingServletRequestPartException.class)
+    public ResponseEntity<byte[]> handleMissingServletRequestPartException(MissingServletRequestPartException e) {
+        return fieldResponse(ErrorCode.MISSING_PARAMETER, e.getRequestPartName());
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<byte[]> handleMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException e) {
+        return fieldResponse(ErrorCode.TYPE_MISMATCH, e.getName());
+    }
+
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<byte[]> handleConstraintViolationException(ConstraintViolationException e) {
+        String message = e.getConstraintViolations().stream()
+            .map(violation -> leafName(violation) + ": " + violation.getMessage())
+            .collect(Collectors.joining(", "));
+        return response(ErrorCode.INVALID_REQUEST, message, ErrorBodies.of(ErrorCode.INVALID_REQUEST, message));
+    }
+
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<byte[]> handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
+        String message = e.getBindingResult().getFieldErrors().stream()
+            .map(fieldError -> fieldError.getField() + ": " + fieldError.getDefaultMessage())
+            .collect(Collectors.joining(", "));
+        return response(ErrorCode.INVALID_REQUEST, message, ErrorBodies.of(ErrorCode.INVALID_REQUEST, message));
+    }
+
+    /**
+     * paramAPI.param -> param
+     */
+    private static String leafName(ConstraintViolation<?> violation) {
+        String name = null;
+        for (Path.Node node : violation.getPropertyPath()) {
+            name = node.getName();
+        }
+        return name;
+    }
+
+    /**
+     * 값 이름 뒤에 ErrorCode의 메시지를 붙인다. (ex. param: 필수 값이 존재하지 않습니다.)
+     */
+    private ResponseEntity<byte[]> fieldResponse(ErrorCode errorCode, String name) {
+        String message = name + ": " + errorCode.getMessage();
+        return response(errorCode, message, ErrorBodies.of(errorCode, message));
+    }
+
+    private ResponseEntity<byte[]> response(ErrorCode errorCode, String message, byte[] body) {
+        log.debug("{} : {}", errorCode, message);
+        return ResponseEntity.status(errorCode.getStatus())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
+    }
+}
@@ -0,0 +1,18 @@
+package com.psh10066.exceptionexample.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * 큐의 남은 자리가 discardingThreshold 이하이면 DEBUG, TRACE 이벤트만 버린다.
+ * <p>
+ * 기본 AsyncAppender는 INFO 이벤트도 버리지만, 여기서는 INFO 이상은 버리지 않고 큐에 자리가 날 때까지 기다린다.
+ */
+public class DebugDiscardingAsyncAppender extends AsyncAppender {
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        return event.getLevel().toInt() <= Level.DEBUG_INT;
+    }
+}
@@ -2,6 +2,8 @@ package com.psh10066.exceptionexample.repository;
 
 import com.psh10066.exceptionexample.ExampleEntity;
 import com.psh10066.exceptionexample.ExampleJpaRepository;
+import com.psh10066.exceptionexample.exception.ErrorCode;
+import com.psh10066.exceptionexample.exception.NotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -13,6 +15,6 @@ public class ExampleComponent {
 
     public ExampleEntity getById(Long id) {
         return exampleJpaRepository.findById(id)
-            .orElseThrow(() -> new IllegalStateException("Entity가 존재하지 않습니다."));
+            .orElseThrow(() -> new NotFoundException(ErrorCode.ENTITY_NOT_FOUND));
     }
 }
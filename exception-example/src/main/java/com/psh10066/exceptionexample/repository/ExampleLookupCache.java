@@ -0,0 +1,26 @@
+package com.psh10066.exceptionexample.repository;
+
+import com.psh10066.exceptionexample.ExampleEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 하나 동안 ExampleRepository에서 조회한 Entity를 id별로 보관한다.
+ */
+@Component
+@RequestScope
+public class ExampleLookupCache {
+
+    private final Map<Long, ExampleEntity> entities = new HashMap<>();
+
+    public ExampleEntity get(Long id) {
+        return entities.get(id);
+    }
+
+    public void put(ExampleEntity entity) {
+        entities.put(entity.getId(), entity);
+    }
+}
@@ -0,0 +1,9 @@
+package com.psh10066.exceptionexample.repository;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ExampleLookupProperties.class)
+public class ExampleLookupConfig {
+}
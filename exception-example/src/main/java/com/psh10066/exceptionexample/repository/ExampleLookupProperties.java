@@ -0,0 +1,19 @@
+package com.psh10066.exceptionexample.repository;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param batchSize ExampleRepository.getAllByIds에서 where id in (...) 한 번에 조회할 최대 id 수
+ */
+@ConfigurationProperties("example.lookup")
+public record ExampleLookupProperties(
+    @DefaultValue("1000") int batchSize
+) {
+
+    public ExampleLookupProperties {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize는 1 이상이어야 합니다.");
+        }
+    }
+}
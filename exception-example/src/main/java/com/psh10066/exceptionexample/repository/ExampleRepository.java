@@ -2,17 +2,96 @@ package com.psh10066.exceptionexample.repository;
 
 import com.psh10066.exceptionexample.ExampleEntity;
 import com.psh10066.exceptionexample.ExampleJpaRepository;
+import com.psh10066.exceptionexample.exception.EntitiesNotFoundException;
+import com.psh10066.exceptionexample.exception.ErrorCode;
+import com.psh10066.exceptionexample.exception.NotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.web.context.request.RequestContextHolder;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 처리 중에는 조회한 Entity를 ExampleLookupCache에 보관하고, 같은 요청에서 다시 조회하면 DB를 조회하지 않는다.
+ * <p>
+ * 선언한 예외는 @Repository의 예외 변환 대상이 아니므로, NotFoundException을 throws로 선언해
+ * stack trace가 있는 InvalidDataAccessApiUsageException으로 감싸지 않고 그대로 던진다.
+ */
 @Repository
 @RequiredArgsConstructor
 public class ExampleRepository {
 
     private final ExampleJpaRepository exampleJpaRepository;
+    private final ExampleLookupCache exampleLookupCache;
+    private final ExampleLookupProperties exampleLookupProperties;
+
+    public ExampleEntity getById(Long id) throws NotFoundException {
+        ExampleEntity cached = getCached(id);
+        if (cached != null) {
+            return cached;
+        }
+        ExampleEntity entity = exampleJpaRepository.findById(id)
+            .orElseThrow(() -> new NotFoundException(ErrorCode.ENTITY_NOT_FOUND));
+        putCache(entity);
+        return entity;
+    }
+
+    /**
+     * ids를 batchSize개씩 where id in (...)으로 조회하고, ids의 순서대로 반환한다.
+     *
+     * @throws EntitiesNotFoundException 존재하지 않는 id가 있는 경우 (존재하지 않는 id를 모두 담는다.)
+     */
+    public List<ExampleEntity> getAllByIds(Collection<Long> ids) throws EntitiesNotFoundException {
+        Map<Long, ExampleEntity> entities = new HashMap<>();
+        List<Long> uncachedIds = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            ExampleEntity cached = getCached(id);
+            if (cached != null) {
+                entities.put(id, cached);
+            } else {
+                uncachedIds.add(id);
+            }
+        }
+
+        int batchSize = exampleLookupProperties.batchSize();
+        for (int from = 0; from < uncachedIds.size(); from += batchSize) {
+            List<Long> batch = uncachedIds.subList(from, Math.min(from + batchSize, uncachedIds.size()));
+            for (ExampleEntity entity : exampleJpaRepository.findAllById(batch)) {
+                entities.put(entity.getId(), entity);
+                putCache(entity);
+            }
+        }
+
+        List<Long> missingIds = uncachedIds.stream()
+            .filter(id -> !entities.containsKey(id))
+            .toList();
+        if (!missingIds.isEmpty()) {
+            throw new EntitiesNotFoundException(missingIds);
+        }
+        return ids.stream()
+            .map(entities::get)
+            .toList();
+    }
+
+    private ExampleEntity getCached(Long id) {
+        return inRequest() ? exampleLookupCache.get(id) : null;
+    }
+
+    private void putCache(ExampleEntity entity) {
+        if (inRequest()) {
+            exampleLookupCache.put(entity);
+        }
+    }
 
-    public ExampleEntity getById(Long id) {
-        return exampleJpaRepository.findById(id)
-            .orElseThrow(() -> new IllegalStateException("Entity가 존재하지 않습니다."));
+    /**
+     * 요청 처리 중이 아니면 request scope인 ExampleLookupCache를 사용할 수 없다.
+     */
+    private static boolean inRequest() {
+        return RequestContextHolder.getRequestAttributes() != null;
     }
 }
@@ -0,0 +1,262 @@
+package com.psh10066.exceptionexample.upload;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * multipart 요청 본문을 앞에서부터 part 단위로 읽는다.
+ * <p>
+ * 본문은 BUFFER_SIZE만큼만 메모리에 올리며, part의 내용은 다음 경계(CRLF--boundary) 전까지 InputStream으로 읽는다.
+ */
+class MultipartReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_HEADER_SIZE = 10 * 1024;
+    private static final byte[] CRLF = {'\r', '\n'};
+
+    /**
+     * @param name        Content-Disposition의 name
+     * @param filename    Content-Disposition의 filename (form field이면 null)
+     * @param contentType part의 Content-Type
+     */
+    record PartHeaders(
+        String name,
+        String filename,
+        String contentType
+    ) {
+
+        boolean isFormField() {
+            return filename == null;
+        }
+    }
+
+    /**
+     * 요청 전체 또는 part 하나의 크기가 최대 크기를 넘은 경우
+     */
+    static class SizeLimitExceededException extends IOException {
+
+        private final long permitted;
+
+        SizeLimitExceededException(long permitted) {
+            super("최대 크기를 넘음 : " + permitted);
+            this.permitted = permitted;
+        }
+
+        long getPermitted() {
+            return permitted;
+        }
+    }
+
+    private final InputStream inputStream;
+    private final byte[] delimiter;
+    private final long maxRequestSize;
+    private final long maxFileSize;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final byte[] skipBuffer = new byte[8 * 1024];
+    private int head;
+    private int tail;
+    private int scanned; // 이 위치 전에는 경계가 시작되지 않음
+    private long requestSize;
+    private long partSize;
+    private boolean partEnded;
+    private boolean finished;
+    private SizeLimitExceededException sizeLimitExceeded; // 한 번 넘으면 이후 읽기도 모두 실패
+
+    MultipartReader(InputStream inputStream, String boundary, long maxRequestSize, long maxFileSize) {
+        this.inputStream = inputStream;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        this.maxRequestSize = maxRequestSize;
+        this.maxFileSize = maxFileSize;
+        // 첫 경계 앞에는 CRLF가 없으므로, CRLF로 시작해 첫 경계 전까지(preamble)를 part처럼 건너뛴다.
+        buffer[tail++] = '\r';
+        buffer[tail++] = '\n';
+    }
+
+    /**
+     * 현재 part의 남은 내용을 건너뛰고 다음 part의 header를 읽는다.
+     *
+     * @return 마지막 경계를 읽었으면 null
+     */
+    PartHeaders nextPart() throws IOException {
+        if (finished) {
+            return null;
+        }
+        while (readPart(skipBuffer, 0, skipBuffer.length) != -1) {
+            // 읽지 않은 내용은 버린다.
+        }
+        if (!require(2)) {
+            throw malformed();
+        }
+        if (buffer[head] == '-' && buffer[head + 1] == '-') {
+            finished = true;
+            return null;
+        }
+        readLine(); // 경계 뒤의 공백
+
+        partEnded = false;
+        partSize = 0;
+        return readHeaders();
+    }
+
+    /**
+     * 현재 part의 내용 (close해도 요청 본문은 닫지 않는다.)
+     */
+    InputStream partInputStream() {
+        return new InputStream() {
+
+            private final byte[] single = new byte[1];
+
+            @Override
+            public int read() throws IOException {
+                return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return len == 0 ? 0 : readPart(b, off, len);
+            }
+        };
+    }
+
+    private int readPart(byte[] b, int off, int len) throws IOException {
+        throwIfSizeLimitExceeded();
+        if (partEnded) {
+            return -1;
+        }
+        while (true) {
+            int index = indexOf(delimiter, Math.max(head, scanned));
+            if (index == head) {
+                head += delimiter.length;
+                partEnded = true;
+                return -1;
+            }
+            // 경계를 찾지 못하면 끝부분은 경계의 앞부분일 수 있으므로 남겨 둔다.
+            scanned = index >= 0 ? index : Math.max(head, tail - delimiter.length + 1);
+            int available = (index >= 0 ? index : scanned) - head;
+            if (available > 0) {
+                int n = Math.min(len, available);
+                System.arraycopy(buffer, head, b, off, n);
+                head += n;
+                partSize += n;
+                if (partSize > maxFileSize) {
+                    sizeLimitExceeded = new SizeLimitExceededException(maxFileSize);
+                    throw sizeLimitExceeded;
+                }
+                return n;
+            }
+            if (!fill()) {
+                throw malformed();
+            }
+        }
+    }
+
+    private PartHeaders readHeaders() throws IOException {
+        String name = null;
+        String filename = null;
+        String contentType = null;
+        int headerSize = 0;
+        String line;
+        while (!(line = readLine()).isEmpty()) {
+            headerSize += line.length();
+            if (headerSize > MAX_HEADER_SIZE) {
+                throw new IOException("multipart header가 너무 큼");
+            }
+            int colon = line.indexOf(':');
+            if (colon < 0) {
+                continue;
+            }
+            String headerName = line.substring(0, colon).trim();
+            String headerValue = line.substring(colon + 1).trim();
+            if (HttpHeaders.CONTENT_DISPOSITION.equalsIgnoreCase(headerName)) {
+                ContentDisposition contentDisposition = ContentDisposition.parse(headerValue);
+                name = contentDisposition.getName();
+                filename = contentDisposition.getFilename();
+            } else if (HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(headerName)) {
+                contentType = headerValue;
+            }
+        }
+        return new PartHeaders(name, filename, contentType);
+    }
+
+    private String readLine() throws IOException {
+        while (true) {
+            int index = indexOf(CRLF, head);
+            if (index >= 0) {
+                String line = new String(buffer, head, index - head, StandardCharsets.UTF_8);
+                head = index + CRLF.length;
+                return line;
+            }
+            if (tail - head > MAX_HEADER_SIZE) {
+                throw new IOException("multipart header가 너무 큼");
+            }
+            if (!fill()) {
+                throw malformed();
+            }
+        }
+    }
+
+    private boolean require(int length) throws IOException {
+        while (tail - head < length) {
+            if (!fill()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 읽은 부분을 buffer 앞으로 옮기고 요청 본문을 더 읽는다.
+     *
+     * @return 요청 본문이 끝났으면 false
+     */
+    private boolean fill() throws IOException {
+        throwIfSizeLimitExceeded();
+        if (head > 0) {
+            System.arraycopy(buffer, head, buffer, 0, tail - head);
+            tail -= head;
+            scanned = Math.max(0, scanned - head);
+            head = 0;
+        }
+        int read = inputStream.read(buffer, tail, buffer.length - tail);
+        if (read == -1) {
+            return false;
+        }
+        tail += read;
+        requestSize += read;
+        if (requestSize > maxRequestSize) {
+            sizeLimitExceeded = new SizeLimitExceededException(maxRequestSize);
+            throw sizeLimitExceeded;
+        }
+        return true;
+    }
+
+    /**
+     * 예외를 무시하고 다시 읽더라도 최대 크기를 넘은 본문을 끝까지 읽은 것처럼 보이지 않게 한다.
+     */
+    private void throwIfSizeLimitExceeded() throws SizeLimitExceededException {
+        if (sizeLimitExceeded != null) {
+            throw sizeLimitExceeded;
+        }
+    }
+
+    private int indexOf(byte[] pattern, int from) {
+        outer:
+        for (int i = from; i <= tail - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (buffer[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static IOException malformed() {
+        return new IOException("multipart 본문이 마지막 경계 없이 끝남");
+    }
+}
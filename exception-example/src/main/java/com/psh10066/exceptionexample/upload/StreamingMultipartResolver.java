@@ -0,0 +1,25 @@
+package com.psh10066.exceptionexample.upload;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.util.Set;
+
+/**
+ * 스트리밍으로 처리할 경로는 multipart로 해석하지 않아서, 요청 본문을 메모리나 임시 파일에 먼저 저장하지 않게 한다.
+ */
+public class StreamingMultipartResolver extends StandardServletMultipartResolver {
+
+    private final Set<String> streamingPaths;
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    public StreamingMultipartResolver(Set<String> streamingPaths) {
+        this.streamingPaths = streamingPaths;
+    }
+
+    @Override
+    public boolean isMultipart(HttpServletRequest request) {
+        return !streamingPaths.contains(urlPathHelper.getPathWithinApplication(request)) && super.isMultipart(request);
+    }
+}
@@ -0,0 +1,107 @@
+package com.psh10066.exceptionexample.upload;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.support.MissingServletRequestPartException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * multipart 요청 본문을 읽으면서 파일을 디스크에 저장한다.
+ * <p>
+ * 파일 전체를 메모리나 임시 파일에 올리지 않고 chunkSize만큼 읽어서 쓰기를 반복하며, 크기와 체크섬은 옮기는 동안 계산한다.
+ * (FileChannel.transferFrom은 일부를 옮긴 뒤 발생한 예외를 무시하므로, 최대 크기 초과를 놓치지 않도록 직접 읽고 쓴다.)
+ * 요청 본문은 MultipartReader로 request.getInputStream()에서 바로 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StreamingUploader {
+
+    private final UploadProperties uploadProperties;
+
+    public UploadedFile upload(HttpServletRequest request, String partName) throws IOException, MissingServletRequestPartException {
+        String boundary = boundary(request);
+        if (boundary == null) {
+            throw new MissingServletRequestPartException(partName);
+        }
+
+        long maxRequestSize = uploadProperties.maxRequestSize().toBytes();
+        if (request.getContentLengthLong() > maxRequestSize) {
+            throw new MaxUploadSizeExceededException(maxRequestSize);
+        }
+        MultipartReader multipartReader = new MultipartReader(request.getInputStream(), boundary, maxRequestSize, uploadProperties.maxFileSize().toBytes());
+        try {
+            MultipartReader.PartHeaders part;
+            while ((part = multipartReader.nextPart()) != null) {
+                if (!part.isFormField() && partName.equals(part.name())) {
+                    return store(multipartReader, part);
+                }
+            }
+        } catch (MultipartReader.SizeLimitExceededException e) {
+            throw new MaxUploadSizeExceededException(e.getPermitted(), e);
+        }
+        throw new MissingServletRequestPartException(partName);
+    }
+
+    /**
+     * multipart/form-data; boundary="abc" -> abc (multipart 요청이 아니면 null)
+     */
+    private static String boundary(HttpServletRequest request) {
+        if (request.getContentType() == null) {
+            return null;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(request.getContentType());
+            if (!"multipart".equalsIgnoreCase(mediaType.getType())) {
+                return null;
+            }
+            String boundary = mediaType.getParameter("boundary");
+            if (boundary != null && boundary.length() >= 2 && boundary.startsWith("\"") && boundary.endsWith("\"")) {
+                boundary = boundary.substring(1, boundary.length() - 1);
+            }
+            return StringUtils.hasLength(boundary) ? boundary : null;
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+    }
+
+    private UploadedFile store(MultipartReader multipartReader, MultipartReader.PartHeaders part) throws IOException {
+        Files.createDirectories(uploadProperties.directory());
+        String id = UUID.randomUUID().toString();
+        Path path = uploadProperties.directory().resolve(id);
+        byte[] chunk = new byte[(int) Math.min(uploadProperties.chunkSize().toBytes(), Integer.MAX_VALUE - 8)];
+
+        CRC32C checksum = new CRC32C();
+        try (InputStream inputStream = multipartReader.partInputStream();
+             FileChannel target = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long size = 0;
+            int read;
+            while ((read = inputStream.readNBytes(chunk, 0, chunk.length)) > 0) {
+                checksum.update(chunk, 0, read);
+                ByteBuffer buffer = ByteBuffer.wrap(chunk, 0, read);
+                while (buffer.hasRemaining()) {
+                    target.write(buffer);
+                }
+                size += read;
+            }
+            return new UploadedFile(id, part.filename(), part.contentType(), size, HexFormat.of().toHexDigits((int) checksum.getValue()));
+        } catch (IOException e) {
+            Files.deleteIfExists(path);
+            throw e;
+        }
+    }
+}
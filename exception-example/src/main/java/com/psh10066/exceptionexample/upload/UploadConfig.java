@@ -0,0 +1,24 @@
+package com.psh10066.exceptionexample.upload;
+
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import java.util.Set;
+
+@Configuration
+@EnableConfigurationProperties(UploadProperties.class)
+public class UploadConfig {
+
+    public static final String STREAMING_PATH = "/part/stream";
+
+    @Bean(DispatcherServlet.MULTIPART_RESOLVER_BEAN_NAME)
+    public StreamingMultipartResolver multipartResolver(MultipartProperties multipartProperties) {
+        StreamingMultipartResolver multipartResolver = new StreamingMultipartResolver(Set.of(STREAMING_PATH));
+        multipartResolver.setResolveLazily(multipartProperties.isResolveLazily());
+        multipartResolver.setStrictServletCompliance(multipartProperties.isStrictServletCompliance());
+        return multipartResolver;
+    }
+}
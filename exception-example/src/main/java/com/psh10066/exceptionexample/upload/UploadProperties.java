@@ -0,0 +1,28 @@
+package com.psh10066.exceptionexample.upload;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * @param directory      업로드한 파일을 저장할 디렉토리 (기본값 : 임시 디렉토리/uploads)
+ * @param maxFileSize    파일 하나의 최대 크기
+ * @param maxRequestSize 요청 전체의 최대 크기
+ * @param chunkSize      요청 본문에서 모아 디스크에 한 번에 쓸 크기 (업로드마다 이 크기의 buffer를 사용)
+ */
+@ConfigurationProperties("upload")
+public record UploadProperties(
+    Path directory,
+    @DefaultValue("2GB") DataSize maxFileSize,
+    @DefaultValue("2GB") DataSize maxRequestSize,
+    @DefaultValue("1MB") DataSize chunkSize
+) {
+
+    public UploadProperties {
+        if (directory == null) {
+            directory = Path.of(System.getProperty("java.io.tmpdir"), "uploads");
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.psh10066.exceptionexample.upload;
+
+/**
+ * @param id               저장한 파일 이름
+ * @param originalFilename 요청한 파일 이름
+ * @param size             크기 (byte)
+ * @param crc32c           CRC32C 체크섬 (16진수)
+ */
+public record UploadedFile(
+    String id,
+    String originalFilename,
+    String contentType,
+    long size,
+    String crc32c
+) {
+}
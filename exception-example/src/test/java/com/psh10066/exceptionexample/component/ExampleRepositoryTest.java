@@ -1,25 +1,98 @@
 package com.psh10066.exceptionexample.component;
 
+import com.psh10066.exceptionexample.ExampleEntity;
+import com.psh10066.exceptionexample.ExampleJpaRepository;
+import com.psh10066.exceptionexample.exception.EntitiesNotFoundException;
+import com.psh10066.exceptionexample.exception.NotFoundException;
 import com.psh10066.exceptionexample.repository.ExampleRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+    "example.lookup.batch-size=2",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
 class ExampleRepositoryTest {
 
     @Autowired
     private ExampleRepository exampleRepository;
 
+    @Autowired
+    private ExampleJpaRepository exampleJpaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        exampleJpaRepository.deleteAllInBatch();
+    }
+
     @Test
-    @DisplayName("Entity가 없는 경우 IllegalStateException 예외가 InvalidDataAccessApiUsageException 예외로 변환된다")
+    @DisplayName("Entity가 없는 경우 선언한 NotFoundException 예외는 InvalidDataAccessApiUsageException 예외로 변환되지 않는다")
     void test1() {
         assertThatThrownBy(() -> exampleRepository.getById(1L))
-            .isNotInstanceOf(IllegalStateException.class)
-            .isInstanceOf(InvalidDataAccessApiUsageException.class);
+            .isNotInstanceOf(InvalidDataAccessApiUsageException.class)
+            .isInstanceOf(NotFoundException.class)
+            .satisfies(exception -> assertThat(exception.getStackTrace()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("여러 id를 batch-size개씩 in 조건으로 조회하고, 요청한 순서대로 반환한다")
+    void getAllByIds1() {
+        Statistics statistics = save(5);
+
+        List<ExampleEntity> entities = exampleRepository.getAllByIds(List.of(5L, 3L, 1L, 4L, 2L));
+
+        assertThat(entities.stream().map(ExampleEntity::getId).toList()).isEqualTo(List.of(5L, 3L, 1L, 4L, 2L));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("여러 id 중 없는 Entity가 있는 경우 없는 id를 모두 담은 예외가 발생한다")
+    void getAllByIds2() {
+        save(2);
+
+        assertThatThrownBy(() -> exampleRepository.getAllByIds(List.of(1L, 3L, 2L, 4L)))
+            .isInstanceOf(EntitiesNotFoundException.class)
+            .hasFieldOrPropertyWithValue("missingIds", List.of(3L, 4L));
+    }
+
+    @Test
+    @DisplayName("같은 요청 안에서 이미 조회한 Entity는 다시 조회하지 않는다")
+    void cache1() {
+        Statistics statistics = save(2);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        exampleRepository.getById(1L);
+        exampleRepository.getById(1L);
+        List<ExampleEntity> entities = exampleRepository.getAllByIds(List.of(2L, 1L));
+
+        assertThat(entities.stream().map(ExampleEntity::getId).toList()).isEqualTo(List.of(2L, 1L));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L); // id = 1 조회 + id in (2) 조회
+    }
+
+    private Statistics save(int count) {
+        exampleJpaRepository.saveAll(LongStream.rangeClosed(1, count).mapToObj(ExampleEntity::new).toList());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
     }
-}
\ No newline at end of file
+}
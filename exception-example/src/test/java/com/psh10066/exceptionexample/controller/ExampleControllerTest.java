@@ -1,31 +1,57 @@
 package com.psh10066.exceptionexample.controller;
 
+import com.jayway.jsonpath.JsonPath;
+import com.psh10066.exceptionexample.exception.NotFoundException;
 import jakarta.validation.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingRequestValueException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.multipart.support.MissingServletRequestPartException;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.zip.CRC32C;
+
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
 @AutoConfigureMockMvc
 class ExampleControllerTest {
 
+    private static final String BOUNDARY = "example-boundary";
+
+    @TempDir
+    static Path uploadDirectory;
+
     @Autowired
     private MockMvc mockMvc;
 
+    @DynamicPropertySource
+    static void uploadProperties(DynamicPropertyRegistry registry) {
+        registry.add("upload.directory", () -> uploadDirectory.toString());
+    }
+
     @Test
     @DisplayName("존재하지 않는 경로로 호출한 경우")
     void empty1() throws Exception {
@@ -47,6 +73,8 @@ class ExampleControllerTest {
                 get("/param")
             )
             .andExpect(status().isBadRequest()) // 400
+            .andExpect(jsonPath("$.code").value("MISSING_PARAMETER"))
+            .andExpect(jsonPath("$.message").value("param: 필수 값이 존재하지 않습니다."))
             .andExpect(result -> {
                 Exception exception = result.getResolvedException();
                 assertThat(exception.getMessage()).isEqualTo("Required request parameter 'param' for method parameter type String is not present");
@@ -57,33 +85,66 @@ class ExampleControllerTest {
 
     @Test
     @DisplayName("RequestParam의 Bean Validation이 실패한 경우")
-    void param2() {
-        try {
-            mockMvc.perform(
+    void param2() throws Exception {
+        mockMvc.perform(
                 get("/param")
                     .param("param", "")
-            );
-            throw new RuntimeException("위에서 예외가 발생해야 한다.");
-        } catch (Exception e) {
-            Exception exception = (Exception) e.getCause();
-            assertThat(exception.getMessage()).isEqualTo("paramAPI.param: must not be blank");
-            assertThat(exception).isInstanceOf(ConstraintViolationException.class);
-        }
+            )
+            .andExpect(status().isBadRequest()) // 400
+            .andExpect(jsonPath("$.code").value("INVALID_REQUEST"))
+            .andExpect(jsonPath("$.message").value("param: must not be blank"))
+            .andExpect(result -> {
+                Exception exception = result.getResolvedException();
+                assertThat(exception.getMessage()).isEqualTo("paramAPI.param: must not be blank");
+                assertThat(exception).isInstanceOf(ConstraintViolationException.class);
+            });
     }
 
     @Test
     @DisplayName("PathVariable의 Bean Validation이 실패한 경우")
-    void path1() {
-        try {
-            mockMvc.perform(
+    void path1() throws Exception {
+        mockMvc.perform(
                 get("/path/{value}", 0)
-            );
-            throw new RuntimeException("위에서 예외가 발생해야 한다.");
-        } catch (Exception e) {
-            Exception exception = (Exception) e.getCause();
-            assertThat(exception.getMessage()).isEqualTo("pathAPI.value: must be greater than or equal to 1");
-            assertThat(exception).isInstanceOf(ConstraintViolationException.class);
-        }
+            )
+            .andExpect(status().isBadRequest()) // 400
+            .andExpect(jsonPath("$.code").value("INVALID_REQUEST"))
+            .andExpect(jsonPath("$.message").value("value: must be greater than or equal to 1"))
+            .andExpect(result -> {
+                Exception exception = result.getResolvedException();
+                assertThat(exception.getMessage()).isEqualTo("pathAPI.value: must be greater than or equal to 1");
+                assertThat(exception).isInstanceOf(ConstraintViolationException.class);
+            });
+    }
+
+    @Test
+    @DisplayName("PathVariable의 형식이 올바르지 않은 경우")
+    void path2() throws Exception {
+        mockMvc.perform(
+                get("/path/{value}", "abc")
+            )
+            .andExpect(status().isBadRequest()) // 400
+            .andExpect(jsonPath("$.code").value("TYPE_MISMATCH"))
+            .andExpect(jsonPath("$.message").value("value: 값의 형식이 올바르지 않습니다."))
+            .andExpect(result -> {
+                Exception exception = result.getResolvedException();
+                assertThat(exception).isInstanceOf(MethodArgumentTypeMismatchException.class);
+            });
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 Entity를 조회한 경우")
+    void entity1() throws Exception {
+        mockMvc.perform(
+                get("/entity/{id}", 1L)
+            )
+            .andExpect(status().isNotFound()) // 404
+            .andExpect(jsonPath("$.code").value("ENTITY_NOT_FOUND"))
+            .andExpect(jsonPath("$.message").value("Entity가 존재하지 않습니다."))
+            .andExpect(result -> {
+                Exception exception = result.getResolvedException();
+                assertThat(exception).isInstanceOf(NotFoundException.class);
+                assertThat(exception.getStackTrace()).isEmpty();
+            });
     }
 
     @Test
@@ -93,6 +154,8 @@ class ExampleControllerTest {
                 multipart("/part")
             )
             .andExpect(status().isBadRequest()) // 400
+            .andExpect(jsonPath("$.code").value("MISSING_PARAMETER"))
+            .andExpect(jsonPath("$.message").value("file: 필수 값이 존재하지 않습니다."))
             .andExpect(result -> {
                 Exception exception = result.getResolvedException();
                 assertThat(exception.getMessage()).isEqualTo("Required part 'file' is not present.");
@@ -103,16 +166,76 @@ class ExampleControllerTest {
     @Test
     @DisplayName("RequestPart의 Bean Validation이 실패한 경우")
     void part2() throws Exception {
-        try {
-            mockMvc.perform(
+        mockMvc.perform(
                 post("/part2")
-            );
-            throw new RuntimeException("위에서 예외가 발생해야 한다.");
-        } catch (Exception e) {
-            Exception exception = (Exception) e.getCause();
-            assertThat(exception.getMessage()).isEqualTo("partAPI2.file: must not be null");
-            assertThat(exception).isInstanceOf(ConstraintViolationException.class);
-        }
+            )
+            .andExpect(status().isBadRequest()) // 400
+            .andExpect(jsonPath("$.code").value("INVALID_REQUEST"))
+            .andExpect(jsonPath("$.message").value("file: must not be null"))
+            .andExpect(result -> {
+                Exception exception = result.getResolvedException();
+                assertThat(exception.getMessage()).isEqualTo("partAPI2.file: must not be null");
+                assertThat(exception).isInstanceOf(ConstraintViolationException.class);
+            });
+    }
+
+    @Test
+    @DisplayName("RequestPart를 스트리밍으로 저장한 경우")
+    void partStream1() throws Exception {
+        byte[] content = "스트리밍 업로드".getBytes(StandardCharsets.UTF_8);
+        CRC32C crc32c = new CRC32C();
+        crc32c.update(content);
+
+        String response = mockMvc.perform(
+                post("/part/stream")
+                    .contentType("multipart/form-data; boundary=" + BOUNDARY)
+                    .content(multipartBody("file", content))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.originalFilename").value("test.txt"))
+            .andExpect(jsonPath("$.size").value(content.length))
+            .andExpect(jsonPath("$.crc32c").value(HexFormat.of().toHexDigits((int) crc32c.getValue())))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        String id = JsonPath.read(response, "$.id");
+        assertThat(Files.readAllBytes(uploadDirectory.resolve(id))).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("스트리밍으로 저장할 RequestPart가 존재하지 않는 경우")
+    void partStream2() throws Exception {
+        mockMvc.perform(
+                post("/part/stream")
+                    .contentType("multipart/form-data; boundary=" + BOUNDARY)
+                    .content(multipartBody("other", new byte[1]))
+            )
+            .andExpect(status().isBadRequest()) // 400
+            .andExpect(jsonPath("$.code").value("MISSING_PARAMETER"))
+            .andExpect(result -> {
+                Exception exception = result.getResolvedException();
+                assertThat(exception.getMessage()).isEqualTo("Required part 'file' is not present.");
+                assertThat(exception).isInstanceOf(MissingServletRequestPartException.class);
+            });
+    }
+
+    @Test
+    @DisplayName("스트리밍으로 저장할 RequestPart가 최대 크기를 넘는 경우")
+    void partStream3() throws Exception {
+        byte[] content = new byte[1024 * 1024 + 1];
+        Arrays.fill(content, (byte) 'a');
+
+        mockMvc.perform(
+                post("/part/stream")
+                    .contentType("multipart/form-data; boundary=" + BOUNDARY)
+                    .content(multipartBody("file", content))
+            )
+            .andExpect(status().isPayloadTooLarge()) // 413
+            .andExpect(result -> {
+                Exception exception = result.getResolvedException();
+                assertThat(exception).isInstanceOf(MaxUploadSizeExceededException.class);
+            });
     }
 
     @Test
@@ -122,6 +245,7 @@ class ExampleControllerTest {
                 post("/body")
             )
             .andExpect(status().isBadRequest()) // 400
+            .andExpect(jsonPath("$.code").value("INVALID_REQUEST_BODY"))
             .andExpect(result -> {
                     Exception exception = result.getResolvedException();
                     assertThat(exception.getMessage()).isEqualTo("Required request body is missing: public java.lang.Integer com.psh10066.exceptionexample.controller.ExampleController.bodyAPI(com.psh10066.exceptionexample.controller.ExampleController$ExampleRequest)");
@@ -139,9 +263,21 @@ class ExampleControllerTest {
                     .content("{\"value\":0}")
             )
             .andExpect(status().isBadRequest()) // 400
+            .andExpect(jsonPath("$.code").value("INVALID_REQUEST"))
+            .andExpect(jsonPath("$.message").value("value: must be greater than or equal to 1"))
             .andExpect(result -> {
                 Exception exception = result.getResolvedException();
                 assertThat(exception).isInstanceOf(MethodArgumentNotValidException.class);
             });
     }
+
+    private byte[] multipartBody(String name, byte[] content) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.writeBytes(("--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"" + name + "\"; filename=\"test.txt\"\r\n"
+            + "Content-Type: text/plain\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(content);
+        body.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return body.toByteArray();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.psh10066.exceptionexample.upload;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+class StreamingUploaderTest {
+
+    private static final String BOUNDARY = "example-boundary";
+
+    @TempDir
+    Path uploadDirectory;
+
+    @Test
+    @DisplayName("최대 파일 크기가 chunkSize의 배수가 아니어도 넘으면 예외가 발생하고 저장하던 파일을 삭제한다")
+    void upload_maxFileSize() throws Exception {
+        StreamingUploader streamingUploader = uploader(DataSize.ofBytes(1000), DataSize.ofMegabytes(1), DataSize.ofBytes(300));
+        MockHttpServletRequest request = multipartRequest(multipartBody(1001));
+
+        assertThatThrownBy(() -> streamingUploader.upload(request, "file"))
+            .isInstanceOf(MaxUploadSizeExceededException.class)
+            .hasFieldOrPropertyWithValue("maxUploadSize", 1000L);
+        assertThat(uploadedFileCount()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("Content-Length 없이 전송한 요청이 최대 요청 크기를 넘으면 예외가 발생한다")
+    void upload_maxRequestSize_chunked() throws Exception {
+        // 파일을 옮기는 도중, 마지막 경계까지 읽었을 때 최대 요청 크기를 넘는다.
+        StreamingUploader streamingUploader = uploader(DataSize.ofMegabytes(1), DataSize.ofKilobytes(100), DataSize.ofKilobytes(16));
+        MockHttpServletRequest request = new MockHttpServletRequest() {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+        request.setContent(multipartBody(100 * 1024));
+
+        assertThatThrownBy(() -> streamingUploader.upload(request, "file"))
+            .isInstanceOf(MaxUploadSizeExceededException.class)
+            .hasFieldOrPropertyWithValue("maxUploadSize", 100 * 1024L);
+        assertThat(uploadedFileCount()).isEqualTo(0L);
+    }
+
+    private StreamingUploader uploader(DataSize maxFileSize, DataSize maxRequestSize, DataSize chunkSize) {
+        return new StreamingUploader(new UploadProperties(uploadDirectory, maxFileSize, maxRequestSize, chunkSize));
+    }
+
+    private MockHttpServletRequest multipartRequest(byte[] content) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+        request.setContent(content);
+        return request;
+    }
+
+    private long uploadedFileCount() throws Exception {
+        try (Stream<Path> files = Files.list(uploadDirectory)) {
+            return files.count();
+        }
+    }
+
+    private byte[] multipartBody(int size) {
+        byte[] content = new byte[size];
+        Arrays.fill(content, (byte) 'a');
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.writeBytes(("--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"file\"; filename=\"test.txt\"\r\n"
+            + "Content-Type: text/plain\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(content);
+        body.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return body.toByteArray();
+    }
+}